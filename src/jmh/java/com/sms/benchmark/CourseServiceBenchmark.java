@@ -0,0 +1,39 @@
+package com.sms.benchmark;
+
+import com.sms.entity.Course;
+import com.sms.service.CourseService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CourseServiceBenchmark {
+
+    private CourseService courseService;
+
+    @Setup(Level.Trial)
+    public void setUp(SeededApplication application) {
+        courseService = application.bean(CourseService.class);
+    }
+
+    @Benchmark
+    public List<Course> getCoursesByTeacher(SeededApplication application) {
+        return courseService.getCoursesByTeacher(SeededApplication.randomId(application.teachers));
+    }
+}
@@ -0,0 +1,115 @@
+package com.sms.benchmark;
+
+import com.sms.StudentManagementSystemApplication;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntFunction;
+
+/**
+ * The application started against an in-memory H2 database seeded with {@code scale} students, shared by all
+ * threads of one benchmark run. Every department holds {@value #STUDENTS_PER_DEPARTMENT} students and every
+ * teacher {@value #COURSES_PER_TEACHER} courses, so the per-call result sizes stay the same at every scale and
+ * only the table sizes grow. Each student has a login named {@code student<n>@bench.example.com}.
+ *
+ * <p>Rows are written with batched JDBC inserts and explicit ids, and the id sequences are moved past them.
+ */
+@State(Scope.Benchmark)
+public class SeededApplication {
+
+    static final int STUDENTS_PER_DEPARTMENT = 200;
+    static final int STUDENTS_PER_TEACHER = 20;
+    static final int COURSES_PER_TEACHER = 4;
+    private static final int BATCH_SIZE = 1_000;
+
+    @Param({"1000", "100000", "1000000"})
+    public int scale;
+
+    int departments;
+    int teachers;
+    int courses;
+    private ConfigurableApplicationContext context;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(StudentManagementSystemApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .properties("spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN",
+                        "logging.level.com.sms=WARN")
+                .run();
+        departments = Math.max(1, scale / STUDENTS_PER_DEPARTMENT);
+        teachers = Math.max(1, scale / STUDENTS_PER_TEACHER);
+        courses = teachers * COURSES_PER_TEACHER;
+        seed();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    /** Id of a random seeded row; ids run from 1 to {@code count}. */
+    static long randomId(int count) {
+        return ThreadLocalRandom.current().nextLong(1, count + 1);
+    }
+
+    static String username(long student) {
+        return "student" + student + "@bench.example.com";
+    }
+
+    private void seed() {
+        JdbcTemplate jdbc = bean(JdbcTemplate.class);
+        String password = bean(PasswordEncoder.class).encode("password");
+        insert(jdbc, "insert into departments (id, name, description) values (?, ?, ?)", departments,
+                i -> new Object[]{i, "Department " + i, "Benchmark department " + i});
+        insert(jdbc, "insert into teachers (id, employee_id, first_name, last_name, email, specialization, "
+                        + "department_id) values (?, ?, ?, ?, ?, ?, ?)", teachers,
+                i -> new Object[]{i, "T" + i, "Teacher", "Number " + i, "teacher" + i + "@bench.example.com",
+                        "Subject " + i % 50, 1 + i % departments});
+        insert(jdbc, "insert into courses (id, code, name, credits, department_id, teacher_id) "
+                        + "values (?, ?, ?, ?, ?, ?)", courses,
+                i -> new Object[]{i, "C" + i, "Course " + i, 1 + i % 5, 1 + i % departments,
+                        1 + (i - 1) / COURSES_PER_TEACHER});
+        insert(jdbc, "insert into users (id, username, password, role, enabled) values (?, ?, ?, 'STUDENT', true)",
+                scale, i -> new Object[]{i, username(i), password});
+        insert(jdbc, "insert into students (id, student_id, first_name, last_name, email, department_id, user_id) "
+                        + "values (?, ?, ?, ?, ?, ?, ?)", scale,
+                i -> new Object[]{i, "S" + i, "First" + i % 997, "Last" + i % 1009, username(i),
+                        1 + i % departments, i});
+        for (String table : List.of("departments", "teachers", "courses", "users", "students")) {
+            Long next = jdbc.queryForObject("select coalesce(max(id), 0) + 1 from " + table, Long.class);
+            jdbc.execute("alter sequence " + table + "_seq restart with " + next);
+        }
+    }
+
+    private static void insert(JdbcTemplate jdbc, String sql, int rows, IntFunction<Object[]> row) {
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 1; i <= rows; i++) {
+            batch.add(row.apply(i));
+            if (batch.size() == BATCH_SIZE || i == rows) {
+                jdbc.batchUpdate(sql, batch);
+                batch.clear();
+            }
+        }
+    }
+}
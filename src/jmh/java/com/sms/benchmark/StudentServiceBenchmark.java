@@ -0,0 +1,60 @@
+package com.sms.benchmark;
+
+import com.sms.entity.Department;
+import com.sms.entity.Student;
+import com.sms.service.StudentService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class StudentServiceBenchmark {
+
+    private StudentService studentService;
+
+    @Setup(Level.Trial)
+    public void setUp(SeededApplication application) {
+        studentService = application.bean(StudentService.class);
+    }
+
+    /** Loads the whole table; expect this to degrade with the scale. */
+    @Benchmark
+    public List<Student> getAllStudents() {
+        return studentService.getAllStudents();
+    }
+
+    @Benchmark
+    public List<Student> getStudentsByDepartment(SeededApplication application) {
+        return studentService.getStudentsByDepartment(SeededApplication.randomId(application.departments));
+    }
+
+    @Benchmark
+    public Student updateStudent(SeededApplication application) {
+        long id = SeededApplication.randomId(application.scale);
+        Department department = new Department();
+        department.setId(SeededApplication.randomId(application.departments));
+        Student student = new Student();
+        student.setStudentId("S" + id);
+        student.setFirstName("Updated" + id % 997);
+        student.setLastName("Last" + id % 1009);
+        student.setEmail(SeededApplication.username(id));
+        student.setDepartment(department);
+        return studentService.updateStudent(id, student);
+    }
+}
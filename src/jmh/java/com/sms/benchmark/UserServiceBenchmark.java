@@ -0,0 +1,43 @@
+package com.sms.benchmark;
+
+import com.sms.service.UserService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Looks up random users among all seeded students. Above {@code sms.security.user-cache.max-size} users most
+ * lookups miss the cache and go to the database; below it they are served from memory after warmup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class UserServiceBenchmark {
+
+    private UserService userService;
+
+    @Setup(Level.Trial)
+    public void setUp(SeededApplication application) {
+        userService = application.bean(UserService.class);
+    }
+
+    @Benchmark
+    public UserDetails loadUserByUsername(SeededApplication application) {
+        return userService.loadUserByUsername(
+                SeededApplication.username(SeededApplication.randomId(application.scale)));
+    }
+}
@@ -0,0 +1,68 @@
+package com.sms.concurrency;
+
+import com.sms.concurrency.AdaptiveConcurrencyLimit.Priority;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * Sheds load in front of the security filter chain: a request the {@link AdaptiveConcurrencyLimit} does not
+ * admit is answered at once with 503 and {@code Retry-After}, before a session is read or a connection is
+ * taken, instead of queueing in the container until it times out. The response is written here rather than
+ * through the error page, so shedding stays cheap.
+ *
+ * <p>Static assets and actuator are exempt; the login and logout pages are {@link Priority#LOGIN}.
+ */
+@RequiredArgsConstructor
+public class AdaptiveConcurrencyFilter extends OncePerRequestFilter {
+
+    private final AdaptiveConcurrencyLimit limit;
+    private final Duration retryAfter;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Priority priority = priority(request);
+        if (!limit.tryAcquire(priority)) {
+            reject(response);
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            limit.release(priority, System.nanoTime() - start,
+                    response.getStatus() == HttpStatus.SERVICE_UNAVAILABLE.value());
+        }
+    }
+
+    static Priority priority(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (path.startsWith("/css/") || path.startsWith("/js/") || path.equals("/favicon.ico")
+                || path.equals("/actuator") || path.startsWith("/actuator/")) {
+            return Priority.EXEMPT;
+        }
+        if (path.equals("/login") || path.equals("/logout")) {
+            return Priority.LOGIN;
+        }
+        return Priority.NORMAL;
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(Math.max(1, retryAfter.toSeconds())));
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write("The server is busy, please try again shortly.");
+    }
+}
@@ -0,0 +1,236 @@
+package com.sms.concurrency;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Estimates how many requests the application can serve at once from the latency it observes, and admits
+ * requests only up to that limit.
+ *
+ * <p>Every {@code windowSize} completed requests the average latency of the window is compared with a slowly
+ * moving long-term average. While they agree (within {@code tolerance}) the limit grows by about its square root;
+ * once the window gets slower than the baseline, the limit shrinks in proportion (gradient), by at most half.
+ * A window in which any request was dropped further down, such as by the {@link DatabaseBulkhead}, cuts the
+ * limit by {@code backoffRatio} instead (multiplicative decrease). The limit only grows while at least half of it
+ * is in use, so a quiet period cannot inflate it; it still shrinks when latency rises.
+ *
+ * <p>{@link Priority#NORMAL} requests may only use the limit minus a share reserved for
+ * {@link Priority#LOGIN}, so users can still sign in while pages are being shed.
+ */
+@Slf4j
+public class AdaptiveConcurrencyLimit implements MeterBinder {
+
+    public enum Priority {
+        /** Static assets and actuator; never limited or sampled. */
+        EXEMPT,
+        /** The login and logout pages; may use the whole limit. */
+        LOGIN,
+        /** Everything else; shed first. */
+        NORMAL
+    }
+
+    /** One move of the limit, kept for the actuator endpoint. */
+    public record LimitChange(Instant at, int from, int to, String reason) {
+    }
+
+    private static final int RECENT_CHANGES = 20;
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double SMOOTHING = 0.2;
+    private static final int LONG_WINDOWS = 50;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final int windowSize;
+    private final double tolerance;
+    private final double backoffRatio;
+    private final double loginReserve;
+
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final Map<Priority, LongAdder> rejected = new EnumMap<>(Priority.class);
+    private final LongAdder changes = new LongAdder();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Deque<LimitChange> recentChanges = new ArrayDeque<>();
+
+    private volatile double limit;
+    private volatile double longRttNanos;
+    private volatile double shortRttNanos;
+    private long windowRttNanos;
+    private int windowSamples;
+    private int windowRequests;
+    private int windowMaxInflight;
+    private boolean windowDropped;
+
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, int windowSize, double tolerance,
+                                    double backoffRatio, double loginReserve) {
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.windowSize = windowSize;
+        this.tolerance = tolerance;
+        this.backoffRatio = backoffRatio;
+        this.loginReserve = loginReserve;
+        for (Priority priority : Priority.values()) {
+            rejected.put(priority, new LongAdder());
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("sms.concurrency.limit", this, AdaptiveConcurrencyLimit::getLimit)
+                .description("Requests the application currently admits at once")
+                .register(registry);
+        Gauge.builder("sms.concurrency.inflight", inflight, AtomicInteger::get)
+                .description("Limited requests currently being served")
+                .register(registry);
+        FunctionCounter.builder("sms.concurrency.limit.changes", changes, LongAdder::sum)
+                .description("Times the concurrency limit moved")
+                .register(registry);
+        for (Priority priority : List.of(Priority.LOGIN, Priority.NORMAL)) {
+            FunctionCounter.builder("sms.concurrency.rejected", rejected.get(priority), LongAdder::sum)
+                    .description("Requests shed with 503 because the concurrency limit was reached")
+                    .tag("priority", priority.name().toLowerCase())
+                    .register(registry);
+        }
+    }
+
+    /** Admits the request if its priority class still has room; a {@code true} must be paired with release. */
+    public boolean tryAcquire(Priority priority) {
+        if (priority == Priority.EXEMPT) {
+            return true;
+        }
+        int current = getLimit();
+        int allowed = priority == Priority.LOGIN ? current
+                : Math.max(1, current - (int) Math.ceil(current * loginReserve));
+        while (true) {
+            int running = inflight.get();
+            if (running >= allowed) {
+                rejected.get(priority).increment();
+                return false;
+            }
+            if (inflight.compareAndSet(running, running + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Ends an admitted request and feeds its latency to the estimate. {@code dropped} marks a request that was
+     * turned away further down because a resource was exhausted.
+     */
+    public void release(Priority priority, long rttNanos, boolean dropped) {
+        if (priority == Priority.EXEMPT) {
+            return;
+        }
+        int running = inflight.getAndDecrement();
+        lock.lock();
+        try {
+            windowMaxInflight = Math.max(windowMaxInflight, running);
+            windowRequests++;
+            if (dropped) {
+                windowDropped = true;
+            } else {
+                windowRttNanos += rttNanos;
+                windowSamples++;
+            }
+            if (windowRequests >= windowSize) {
+                update();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void update() {
+        double current = limit;
+        double next;
+        String reason;
+        if (windowDropped) {
+            next = current * backoffRatio;
+            reason = "drop";
+        } else {
+            double shortRtt = (double) windowRttNanos / windowSamples;
+            shortRttNanos = shortRtt;
+            double longRtt = longRttNanos == 0 ? shortRtt : longRttNanos + (shortRtt - longRttNanos) / LONG_WINDOWS;
+            if (longRtt / shortRtt > 2) {
+                // Latency fell well below the baseline (e.g. a slow start); let the baseline follow it down
+                longRtt *= 0.95;
+            }
+            longRttNanos = longRtt;
+            double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, tolerance * longRtt / shortRtt));
+            next = current * (1 - SMOOTHING) + (current * gradient + Math.sqrt(current)) * SMOOTHING;
+            if (windowMaxInflight < current / 2) {
+                next = Math.min(current, next);
+            }
+            reason = "latency";
+        }
+        next = Math.max(minLimit, Math.min(maxLimit, next));
+        limit = next;
+        if ((int) next != (int) current) {
+            recordChange((int) current, (int) next, reason);
+        }
+        windowRttNanos = 0;
+        windowSamples = 0;
+        windowRequests = 0;
+        windowMaxInflight = 0;
+        windowDropped = false;
+    }
+
+    private void recordChange(int from, int to, String reason) {
+        changes.increment();
+        if (recentChanges.size() == RECENT_CHANGES) {
+            recentChanges.removeFirst();
+        }
+        recentChanges.addLast(new LimitChange(Instant.now(), from, to, reason));
+        log.debug("Concurrency limit {} -> {} ({}, window {} ms, baseline {} ms)", from, to, reason,
+                TimeUnit.NANOSECONDS.toMillis((long) shortRttNanos), TimeUnit.NANOSECONDS.toMillis((long) longRttNanos));
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    public long getRejected(Priority priority) {
+        return rejected.get(priority).sum();
+    }
+
+    public long getChanges() {
+        return changes.sum();
+    }
+
+    public double getShortRttMillis() {
+        return shortRttNanos / 1e6;
+    }
+
+    public double getLongRttMillis() {
+        return longRttNanos / 1e6;
+    }
+
+    /** The latest limit changes, oldest first. */
+    public List<LimitChange> getRecentChanges() {
+        lock.lock();
+        try {
+            return new ArrayList<>(recentChanges);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.sms.concurrency;
+
+import com.sms.concurrency.AdaptiveConcurrencyLimit.LimitChange;
+import com.sms.concurrency.AdaptiveConcurrencyLimit.Priority;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.List;
+
+/**
+ * {@code /actuator/concurrency}: the current request concurrency limit, what it is based on, how many
+ * requests were shed per priority class and the latest limit changes.
+ */
+@Endpoint(id = "concurrency")
+@RequiredArgsConstructor
+public class ConcurrencyLimitEndpoint {
+
+    public record Snapshot(int limit, int inflight, double windowLatencyMillis, double baselineLatencyMillis,
+                           long rejectedLogin, long rejectedNormal, long limitChanges, List<LimitChange> recentChanges) {
+    }
+
+    private final AdaptiveConcurrencyLimit limit;
+
+    @ReadOperation
+    public Snapshot concurrency() {
+        return new Snapshot(limit.getLimit(), limit.getInflight(), limit.getShortRttMillis(),
+                limit.getLongRttMillis(), limit.getRejected(Priority.LOGIN), limit.getRejected(Priority.NORMAL),
+                limit.getChanges(), limit.getRecentChanges());
+    }
+}
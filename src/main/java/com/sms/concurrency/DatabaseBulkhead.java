@@ -0,0 +1,164 @@
+package com.sms.concurrency;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.Ordered;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionAttributeSource;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caps how many transactional service calls run at once, sized to the JDBC pool. With requests on virtual
+ * threads there is no thread pool left to bound concurrency, so thousands of requests could otherwise queue
+ * inside the connection pool and time out there. Here they wait in a fair semaphore instead, at most
+ * {@code maxWait}, and then fail with {@link DatabaseCapacityExceededException} (503).
+ *
+ * <p>Only calls that hold a connection take a permit: the transaction attribute of the service method (or the
+ * settings of a {@code TransactionTemplate}) is resolved first, and {@code NOT_SUPPORTED}/{@code NEVER} calls
+ * such as bulk account creation, which hashes passwords before it opens its transaction, run without one. When
+ * a read replica is configured, read-only calls take their permits from a second semaphore sized to the replica
+ * pool; otherwise both share the primary permits.
+ *
+ * <p>A thread that already holds a permit does not take another one, so services calling services cannot
+ * deadlock on their own permits. Runs outside the transaction advice, so no connection is held while waiting.
+ * Meters are bound once the registry exists, since aspects are created before it.
+ */
+@Aspect
+public class DatabaseBulkhead implements Ordered, MeterBinder {
+
+    @FunctionalInterface
+    public interface Call<T> {
+        T proceed() throws Throwable;
+    }
+
+    private static final ThreadLocal<Boolean> HOLDING = new ThreadLocal<>();
+
+    private final Route primary;
+    private final Route replica;
+    private final long maxWaitNanos;
+    private final TransactionAttributeSource transactionAttributes = new AnnotationTransactionAttributeSource();
+
+    /** {@code replicaPermits} of 0 lets read-only calls share the primary permits. */
+    public DatabaseBulkhead(int permits, int replicaPermits, Duration maxWait) {
+        this.primary = new Route("primary", permits);
+        this.replica = replicaPermits > 0 ? new Route("replica", replicaPermits) : primary;
+        this.maxWaitNanos = maxWait.toNanos();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        primary.bindTo(registry);
+        if (replica != primary) {
+            replica.bindTo(registry);
+        }
+    }
+
+    @Around("(@within(org.springframework.transaction.annotation.Transactional)"
+            + " && execution(public * com.sms.service..*(..)))"
+            + " || execution(* org.springframework.transaction.support.TransactionOperations.execute(..))")
+    public Object limit(ProceedingJoinPoint joinPoint) throws Throwable {
+        TransactionDefinition definition = definition(joinPoint);
+        if (definition == null || !holdsConnection(definition)) {
+            return joinPoint.proceed();
+        }
+        return execute(definition.isReadOnly(), joinPoint::proceed);
+    }
+
+    public <T> T execute(Call<T> call) throws Throwable {
+        return execute(false, call);
+    }
+
+    public <T> T execute(boolean readOnly, Call<T> call) throws Throwable {
+        if (HOLDING.get() != null) {
+            return call.proceed();
+        }
+        Route route = readOnly ? replica : primary;
+        route.acquire(maxWaitNanos);
+        HOLDING.set(Boolean.TRUE);
+        try {
+            return call.proceed();
+        } finally {
+            HOLDING.remove();
+            route.permits.release();
+        }
+    }
+
+    private TransactionDefinition definition(ProceedingJoinPoint joinPoint) {
+        Object target = joinPoint.getTarget();
+        if (target instanceof TransactionDefinition template) {
+            return template;
+        }
+        return transactionAttributes.getTransactionAttribute(((MethodSignature) joinPoint.getSignature()).getMethod(),
+                AopUtils.getTargetClass(target));
+    }
+
+    private static boolean holdsConnection(TransactionDefinition definition) {
+        int propagation = definition.getPropagationBehavior();
+        return propagation != TransactionDefinition.PROPAGATION_NOT_SUPPORTED
+                && propagation != TransactionDefinition.PROPAGATION_NEVER;
+    }
+
+    @Override
+    public int getOrder() {
+        // Before the transaction advice, which runs at the lowest precedence
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    private static final class Route {
+
+        private final String name;
+        private final Semaphore permits;
+        private final LongAdder acquired = new LongAdder();
+        private final LongAdder waitNanos = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+
+        Route(String name, int permits) {
+            this.name = name;
+            this.permits = new Semaphore(permits, true);
+        }
+
+        void acquire(long maxWaitNanos) throws InterruptedException {
+            long start = System.nanoTime();
+            if (!permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS)) {
+                rejected.increment();
+                throw new DatabaseCapacityExceededException(
+                        "Too many requests are using the database, please try again");
+            }
+            acquired.increment();
+            waitNanos.add(System.nanoTime() - start);
+        }
+
+        void bindTo(MeterRegistry registry) {
+            FunctionTimer.builder("sms.db.bulkhead.wait", this, r -> r.acquired.sum(), r -> r.waitNanos.sum(),
+                            TimeUnit.NANOSECONDS)
+                    .description("Time service calls waited for a database permit")
+                    .tag("route", name)
+                    .register(registry);
+            FunctionCounter.builder("sms.db.bulkhead.rejected", rejected, LongAdder::sum)
+                    .description("Service calls turned away because every database permit stayed busy")
+                    .tag("route", name)
+                    .register(registry);
+            Gauge.builder("sms.db.bulkhead.available", permits, Semaphore::availablePermits)
+                    .description("Database permits currently free")
+                    .tag("route", name)
+                    .register(registry);
+            Gauge.builder("sms.db.bulkhead.queue", permits, Semaphore::getQueueLength)
+                    .description("Service calls waiting for a database permit")
+                    .tag("route", name)
+                    .register(registry);
+        }
+    }
+}
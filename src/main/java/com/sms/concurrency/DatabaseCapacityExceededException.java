@@ -0,0 +1,16 @@
+package com.sms.concurrency;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Thrown when a service call waited too long for a database permit. Nothing was read or written; the
+ * client is asked to try again.
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class DatabaseCapacityExceededException extends RuntimeException {
+
+    public DatabaseCapacityExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,76 @@
+package com.sms.config;
+
+import com.sms.concurrency.AdaptiveConcurrencyFilter;
+import com.sms.concurrency.AdaptiveConcurrencyLimit;
+import com.sms.concurrency.ConcurrencyLimitEndpoint;
+import com.sms.concurrency.DatabaseBulkhead;
+import com.sms.monitoring.VirtualThreadPinningMonitor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Requests, {@code @Async} methods and scheduled jobs run on virtual threads when
+ * {@code spring.threads.virtual.enabled} is set. With no thread pool bounding concurrency any more, database
+ * work is bounded by the {@link DatabaseBulkhead}, sized to the connection pool by default, and requests as a
+ * whole by the {@link AdaptiveConcurrencyLimit}, which follows the latency they see.
+ */
+@Configuration
+public class ConcurrencyConfig {
+
+    @Bean
+    public static DatabaseBulkhead databaseBulkhead(
+            @Value("${sms.db.bulkhead.permits:0}") int permits,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize,
+            @Value("${sms.db.bulkhead.replica-permits:0}") int replicaPermits,
+            @Value("${sms.datasource.replica.url:}") String replicaUrl,
+            @Value("${sms.datasource.replica.hikari.maximum-pool-size:10}") int replicaPoolSize,
+            @Value("${sms.db.bulkhead.max-wait:2s}") Duration maxWait) {
+        // Read-only calls get permits of their own only when they run on a replica pool of their own
+        int readPermits = replicaUrl.isEmpty() ? 0 : replicaPermits > 0 ? replicaPermits : replicaPoolSize;
+        return new DatabaseBulkhead(permits > 0 ? permits : poolSize, readPermits, maxWait);
+    }
+
+    @Bean
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+            @Value("${sms.virtual-threads.pinned-threshold:20ms}") Duration threshold, MeterRegistry meterRegistry) {
+        return new VirtualThreadPinningMonitor(threshold, meterRegistry);
+    }
+
+    @Bean
+    public AdaptiveConcurrencyLimit adaptiveConcurrencyLimit(
+            @Value("${sms.concurrency.initial-limit:50}") int initialLimit,
+            @Value("${sms.concurrency.min-limit:10}") int minLimit,
+            @Value("${sms.concurrency.max-limit:1000}") int maxLimit,
+            @Value("${sms.concurrency.window:20}") int window,
+            @Value("${sms.concurrency.tolerance:1.5}") double tolerance,
+            @Value("${sms.concurrency.backoff-ratio:0.9}") double backoffRatio,
+            @Value("${sms.concurrency.login-reserve:0.1}") double loginReserve) {
+        return new AdaptiveConcurrencyLimit(initialLimit, minLimit, maxLimit, window, tolerance, backoffRatio,
+                loginReserve);
+    }
+
+    @Bean
+    public FilterRegistrationBean<AdaptiveConcurrencyFilter> adaptiveConcurrencyFilter(
+            AdaptiveConcurrencyLimit adaptiveConcurrencyLimit,
+            @Value("${sms.concurrency.retry-after:1s}") Duration retryAfter) {
+        FilterRegistrationBean<AdaptiveConcurrencyFilter> registration = new FilterRegistrationBean<>(
+                new AdaptiveConcurrencyFilter(adaptiveConcurrencyLimit, retryAfter));
+        // Just ahead of Spring Security, so shed requests never touch the session or the user store
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+        return registration;
+    }
+
+    @Bean
+    public ConcurrencyLimitEndpoint concurrencyLimitEndpoint(AdaptiveConcurrencyLimit adaptiveConcurrencyLimit) {
+        return new ConcurrencyLimitEndpoint(adaptiveConcurrencyLimit);
+    }
+}
@@ -24,7 +24,7 @@ public class DataInitializer implements CommandLineRunner {
     @Override
     public void run(String... args) throws Exception {
         // Create departments
-        if (departmentService.getAllDepartments().isEmpty()) {
+        if (departmentService.countDepartments() == 0) {
             Department cse = new Department();
             cse.setName("Computer Science");
             cse.setDescription("Department of Computer Science and Engineering");
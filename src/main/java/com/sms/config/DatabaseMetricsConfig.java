@@ -0,0 +1,52 @@
+package com.sms.config;
+
+import com.sms.monitoring.ConnectionTrackingDataSource;
+import com.sms.monitoring.DbRequestMetricsFilter;
+import com.sms.monitoring.SqlShapeInspector;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class DatabaseMetricsConfig {
+
+    @Bean
+    public static BeanPostProcessor connectionTrackingPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                // The routing proxy hands out the pools' connections, which are tracked already
+                if (bean instanceof DataSource dataSource && !(bean instanceof ConnectionTrackingDataSource)
+                        && !(bean instanceof LazyConnectionDataSourceProxy)) {
+                    return new ConnectionTrackingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlShapeInspectorCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlShapeInspector());
+    }
+
+    @Bean
+    public FilterRegistrationBean<DbRequestMetricsFilter> dbRequestMetricsFilter(
+            MeterRegistry meterRegistry,
+            @Value("${sms.db.statement-budget:50}") int statementBudget,
+            @Value("${sms.db.n-plus-one-threshold:10}") int nPlusOneThreshold) {
+        FilterRegistrationBean<DbRequestMetricsFilter> registration = new FilterRegistrationBean<>(
+                new DbRequestMetricsFilter(meterRegistry, statementBudget, nPlusOneThreshold));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
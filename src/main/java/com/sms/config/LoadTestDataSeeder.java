@@ -0,0 +1,266 @@
+package com.sms.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Generates a large synthetic dataset for performance work: departments, teachers, courses and students, each
+ * teacher and student with a login, and every student enrolled in a few courses.
+ *
+ * <p>Every row is derived from {@code sms.loadtest.seed} and its own number, so the same settings always produce
+ * the same data. Rows are written with batched JDBC inserts, one transaction per chunk, and each entity's rows are
+ * numbered in insertion order. Existing generated rows are counted first and only the missing numbers are
+ * inserted, so rerunning is a no-op and an interrupted run resumes where it stopped. Ids are taken from the
+ * entity sequences in blocks the way Hibernate's pooled optimizer does, so they never collide with ids the
+ * application assigns later.
+ *
+ * <p>Runs before the search index and dashboard statistics are loaded, so both see the generated data. Logins are
+ * {@code student<n>@loadtest.example.com} and {@code teacher<n>@loadtest.example.com}, all with
+ * {@code sms.loadtest.password}.
+ */
+@Slf4j
+@Component
+@Profile("loadtest")
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class LoadTestDataSeeder implements ApplicationRunner {
+
+    static final String DEPARTMENT_DESCRIPTION = "Generated load-test department";
+    static final String TEACHER_PREFIX = "LT-T";
+    static final String STUDENT_PREFIX = "LT-S";
+    static final String COURSE_PREFIX = "LT-C";
+    static final String EMAIL_DOMAIN = "@loadtest.example.com";
+
+    // Matches the allocationSize of the entity sequences
+    private static final int ID_BLOCK = 50;
+
+    private static final String[] FIRST_NAMES = {"James", "Mary", "Robert", "Patricia", "John", "Jennifer",
+            "Michael", "Linda", "David", "Elizabeth", "William", "Barbara", "Richard", "Susan", "Joseph", "Jessica",
+            "Thomas", "Sarah", "Wei", "Fatima", "Carlos", "Aisha", "Hiroshi", "Priya", "Olga", "Kwame", "Sofia",
+            "Mateo", "Ingrid", "Yusuf", "Chloe", "Arjun"};
+    private static final String[] LAST_NAMES = {"Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia",
+            "Miller", "Davis", "Rodriguez", "Martinez", "Hernandez", "Lopez", "Wilson", "Anderson", "Thomas",
+            "Taylor", "Moore", "Jackson", "Martin", "Lee", "Chen", "Wang", "Nguyen", "Kim", "Patel", "Singh",
+            "Ivanova", "Mensah", "Tanaka", "Muller", "Rossi", "Okafor", "Haddad", "Larsen", "Kowalski", "Silva"};
+    private static final String[] SUBJECTS = {"Computer Science", "Mathematics", "Physics", "Chemistry",
+            "Biology", "Economics", "History", "Philosophy", "Linguistics", "Psychology", "Mechanical Engineering",
+            "Electrical Engineering", "Civil Engineering", "Statistics", "Geography", "Music"};
+    private static final String[] COURSE_LEVELS = {"Introduction to", "Foundations of", "Topics in",
+            "Advanced", "Applied", "Seminar in", "Research Methods in"};
+    private static final String[] STREETS = {"Main St", "Oak Ave", "Maple Dr", "Cedar Ln", "Park Rd", "Elm St",
+            "Lake View", "Hill Crest", "River Rd", "College Ave"};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final Dialect dialect;
+    private final long seed;
+    private final int departments;
+    private final int teachers;
+    private final int courses;
+    private final int students;
+    private final int enrollmentsPerStudent;
+    private final int chunkSize;
+    private final String password;
+
+    public LoadTestDataSeeder(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                              PasswordEncoder passwordEncoder, EntityManagerFactory entityManagerFactory,
+                              @Value("${sms.loadtest.seed:42}") long seed,
+                              @Value("${sms.loadtest.departments:50}") int departments,
+                              @Value("${sms.loadtest.teachers:2000}") int teachers,
+                              @Value("${sms.loadtest.courses:5000}") int courses,
+                              @Value("${sms.loadtest.students:100000}") int students,
+                              @Value("${sms.loadtest.enrollments-per-student:4}") int enrollmentsPerStudent,
+                              @Value("${sms.loadtest.chunk-size:1000}") int chunkSize,
+                              @Value("${sms.loadtest.password:loadtest}") String password) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.passwordEncoder = passwordEncoder;
+        this.dialect = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect();
+        this.seed = seed;
+        this.departments = Math.max(1, departments);
+        this.teachers = Math.max(1, teachers);
+        this.courses = Math.max(1, courses);
+        this.students = students;
+        this.enrollmentsPerStudent = Math.min(enrollmentsPerStudent, this.courses);
+        this.chunkSize = chunkSize;
+        this.password = password;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.nanoTime();
+        // Hashed once: BCrypt per row would dominate the run
+        String passwordHash = passwordEncoder.encode(password);
+
+        int existing = count("select count(*) from departments where description = ?", DEPARTMENT_DESCRIPTION);
+        seed("departments", existing, departments, this::insertDepartments);
+        long[] departmentIds = ids("select id from departments where description = ? order by id",
+                DEPARTMENT_DESCRIPTION);
+
+        existing = count("select count(*) from teachers where employee_id like ?", TEACHER_PREFIX + "%");
+        seed("teachers", existing, teachers, (from, to) -> insertTeachers(from, to, departmentIds, passwordHash));
+        long[] teacherIds = ids("select id from teachers where employee_id like ? order by employee_id",
+                TEACHER_PREFIX + "%");
+
+        existing = count("select count(*) from courses where code like ?", COURSE_PREFIX + "%");
+        seed("courses", existing, courses, (from, to) -> insertCourses(from, to, departmentIds, teacherIds));
+        long[] courseIds = ids("select id from courses where code like ? order by code", COURSE_PREFIX + "%");
+
+        existing = count("select count(*) from students where student_id like ?", STUDENT_PREFIX + "%");
+        seed("students", existing, students,
+                (from, to) -> insertStudents(from, to, departmentIds, courseIds, passwordHash));
+
+        log.info("Load-test data ready in {} ms: {} departments, {} teachers, {} courses, {} students",
+                (System.nanoTime() - start) / 1_000_000, departments, teachers, courses, students);
+    }
+
+    @FunctionalInterface
+    private interface Chunk {
+        void insert(int from, int to);
+    }
+
+    /** Inserts rows {@code existing + 1} to {@code target} in chunks, each in its own transaction. */
+    private void seed(String entity, int existing, int target, Chunk chunk) {
+        if (existing >= target) {
+            log.info("Load-test {}: {} rows present, nothing to insert", entity, existing);
+            return;
+        }
+        long start = System.nanoTime();
+        for (int first = existing + 1; first <= target; first += chunkSize) {
+            int from = first;
+            int to = Math.min(first + chunkSize - 1, target);
+            transactionTemplate.executeWithoutResult(status -> chunk.insert(from, to));
+        }
+        log.info("Load-test {}: inserted rows {} to {} in {} ms", entity, existing + 1, target,
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private void insertDepartments(int from, int to) {
+        long[] ids = reserveIds("departments_seq", to - from + 1);
+        List<Object[]> rows = new ArrayList<>();
+        for (int n = from; n <= to; n++) {
+            rows.add(new Object[]{ids[n - from], SUBJECTS[(n - 1) % SUBJECTS.length] + " " + n,
+                    DEPARTMENT_DESCRIPTION});
+        }
+        jdbcTemplate.batchUpdate("insert into departments (id, name, description) values (?, ?, ?)", rows);
+    }
+
+    private void insertTeachers(int from, int to, long[] departmentIds, String passwordHash) {
+        long[] userIds = reserveIds("users_seq", to - from + 1);
+        long[] ids = reserveIds("teachers_seq", to - from + 1);
+        List<Object[]> users = new ArrayList<>();
+        List<Object[]> rows = new ArrayList<>();
+        for (int n = from; n <= to; n++) {
+            SplittableRandom random = random(2, n);
+            String email = "teacher" + n + EMAIL_DOMAIN;
+            users.add(new Object[]{userIds[n - from], email, passwordHash, "TEACHER"});
+            rows.add(new Object[]{ids[n - from], "%s%06d".formatted(TEACHER_PREFIX, n), pick(random, FIRST_NAMES),
+                    pick(random, LAST_NAMES), email, phone(random), pick(random, SUBJECTS),
+                    departmentIds[random.nextInt(departmentIds.length)], userIds[n - from]});
+        }
+        insertUsers(users);
+        jdbcTemplate.batchUpdate("insert into teachers (id, employee_id, first_name, last_name, email, phone, "
+                + "specialization, department_id, user_id) values (?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+    }
+
+    private void insertCourses(int from, int to, long[] departmentIds, long[] teacherIds) {
+        long[] ids = reserveIds("courses_seq", to - from + 1);
+        List<Object[]> rows = new ArrayList<>();
+        for (int n = from; n <= to; n++) {
+            SplittableRandom random = random(3, n);
+            String name = pick(random, COURSE_LEVELS) + " " + pick(random, SUBJECTS);
+            rows.add(new Object[]{ids[n - from], "%s%06d".formatted(COURSE_PREFIX, n), name,
+                    name + " (generated)", 1 + random.nextInt(6),
+                    departmentIds[random.nextInt(departmentIds.length)], teacherIds[random.nextInt(teacherIds.length)]});
+        }
+        jdbcTemplate.batchUpdate("insert into courses (id, code, name, description, credits, department_id, "
+                + "teacher_id) values (?, ?, ?, ?, ?, ?, ?)", rows);
+    }
+
+    private void insertStudents(int from, int to, long[] departmentIds, long[] courseIds, String passwordHash) {
+        long[] userIds = reserveIds("users_seq", to - from + 1);
+        long[] ids = reserveIds("students_seq", to - from + 1);
+        List<Object[]> users = new ArrayList<>();
+        List<Object[]> rows = new ArrayList<>();
+        List<Object[]> enrollments = new ArrayList<>();
+        for (int n = from; n <= to; n++) {
+            SplittableRandom random = random(4, n);
+            String email = "student" + n + EMAIL_DOMAIN;
+            long id = ids[n - from];
+            users.add(new Object[]{userIds[n - from], email, passwordHash, "STUDENT"});
+            rows.add(new Object[]{id, "%s%07d".formatted(STUDENT_PREFIX, n), pick(random, FIRST_NAMES),
+                    pick(random, LAST_NAMES), email, phone(random),
+                    (1 + random.nextInt(999)) + " " + pick(random, STREETS),
+                    departmentIds[random.nextInt(departmentIds.length)], userIds[n - from]});
+            random.ints(0, courseIds.length).distinct().limit(enrollmentsPerStudent)
+                    .forEach(course -> enrollments.add(new Object[]{id, courseIds[course]}));
+        }
+        insertUsers(users);
+        jdbcTemplate.batchUpdate("insert into students (id, student_id, first_name, last_name, email, phone, "
+                + "address, department_id, user_id) values (?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+        jdbcTemplate.batchUpdate("insert into student_courses (student_id, course_id) values (?, ?)", enrollments);
+    }
+
+    private void insertUsers(List<Object[]> users) {
+        jdbcTemplate.batchUpdate("insert into users (id, username, password, role, enabled) values (?, ?, ?, ?, true)",
+                users);
+    }
+
+    /**
+     * Takes values from the sequence and hands out each value's block of {@value #ID_BLOCK} ids ending at it, as
+     * Hibernate's pooled optimizer does. The initial value is skipped: the optimizer treats its block specially.
+     */
+    private long[] reserveIds(String sequence, int count) {
+        String nextValue = dialect.getSequenceSupport().getSequenceNextValString(sequence);
+        long[] ids = new long[count];
+        int filled = 0;
+        while (filled < count) {
+            Long high = jdbcTemplate.queryForObject(nextValue, Long.class);
+            if (high == null || high < ID_BLOCK) {
+                continue;
+            }
+            for (long id = high - ID_BLOCK + 1; id <= high && filled < count; id++) {
+                ids[filled++] = id;
+            }
+        }
+        return ids;
+    }
+
+    private int count(String sql, Object argument) {
+        Integer count = jdbcTemplate.queryForObject(sql, Integer.class, argument);
+        return count == null ? 0 : count;
+    }
+
+    private long[] ids(String sql, Object argument) {
+        return jdbcTemplate.queryForList(sql, Long.class, argument).stream().mapToLong(Long::longValue).toArray();
+    }
+
+    /** Random numbers for row {@code n} of one entity, independent of every other row. */
+    private SplittableRandom random(int entity, int n) {
+        return new SplittableRandom(seed * 31 + entity * 1_000_003L + n);
+    }
+
+    private static String pick(SplittableRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static String phone(SplittableRandom random) {
+        return "555%07d".formatted(random.nextInt(10_000_000));
+    }
+}
@@ -1,5 +1,8 @@
 package com.sms.config;
 
+import com.sms.security.AdmissionControlledPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -9,7 +12,12 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 public class PasswordEncoderConfig {
     
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry,
+                                           @Value("${sms.login.verification.threads:0}") int threads,
+                                           @Value("${sms.login.verification.queue-capacity:16}") int queueCapacity) {
+        // By default verification may use at most half of the cores
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return new AdmissionControlledPasswordEncoder(new BCryptPasswordEncoder(), poolSize, queueCapacity,
+                meterRegistry);
     }
 }
@@ -0,0 +1,55 @@
+package com.sms.config;
+
+import com.sms.datasource.ReadWriteRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Active once {@code sms.datasource.replica.url} is set. The primary pool is built from {@code spring.datasource.*}
+ * as usual and a second pool from {@code sms.datasource.replica.*}; the application's {@code dataSource} then routes
+ * read-only transactions to the replica. Without a replica Spring Boot's single pool is used unchanged.
+ */
+@Configuration
+@ConditionalOnProperty("sms.datasource.replica.url")
+public class ReadReplicaConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("sms.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(
+            @Value("${sms.datasource.replica.url}") String url,
+            @Value("${sms.datasource.replica.username:${spring.datasource.username:}}") String username,
+            @Value("${sms.datasource.replica.password:${spring.datasource.password:}}") String password) {
+        HikariDataSource dataSource = DataSourceBuilder.create().type(HikariDataSource.class)
+                .url(url).username(username).password(password).build();
+        dataSource.setPoolName("replica");
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public ReadWriteRoutingDataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            @Value("${sms.datasource.replica.retry-interval:30s}") Duration retryInterval) {
+        return new ReadWriteRoutingDataSource(primaryDataSource, replicaDataSource, retryInterval);
+    }
+}
@@ -0,0 +1,43 @@
+package com.sms.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+
+/**
+ * Creates the full-text and trigram indexes behind the search page when running on PostgreSQL. Hibernate's
+ * schema update cannot express GIN expression indexes; other databases use the unindexed fallback search.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchIndexInitializer implements ApplicationRunner {
+
+    private static final String SCRIPT = "db/search-indexes.sql";
+
+    private final DataSource dataSource;
+
+    @Override
+    public void run(ApplicationArguments args) throws MetaDataAccessException {
+        String database = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+        if (!"PostgreSQL".equals(database)) {
+            return;
+        }
+        try {
+            new ResourceDatabasePopulator(new ClassPathResource(SCRIPT)).execute(dataSource);
+        } catch (DataAccessException e) {
+            log.warn("Search indexes were not created ({}); search works but is not indexed. Run {} as a superuser.",
+                    e.getMessage(), SCRIPT);
+        }
+    }
+}
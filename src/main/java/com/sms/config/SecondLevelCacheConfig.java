@@ -0,0 +1,78 @@
+package com.sms.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hibernate second-level cache for reference data. Departments and courses, and the queries that list them,
+ * are cached in Caffeine-backed JCache regions bounded by size and time to live. Hibernate keeps the regions
+ * consistent on writes: entity entries are updated on commit and cached query results are invalidated as soon
+ * as one of their tables changes.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    public static final String DEPARTMENTS_REGION = "departments";
+    public static final String COURSES_REGION = "courses";
+    public static final String REFERENCE_QUERIES_REGION = "reference-queries";
+
+    private static final AtomicInteger MANAGERS = new AtomicInteger();
+
+    @Bean(destroyMethod = "close")
+    public CacheManager secondLevelCacheManager(@Value("${sms.cache.reference.max-size:10000}") long maxSize,
+                                                @Value("${sms.cache.reference.ttl:1h}") Duration ttl) {
+        // One manager per application context; the URI also names its JMX statistics beans
+        URI uri = URI.create("sms-second-level-cache-" + MANAGERS.incrementAndGet());
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(uri, getClass().getClassLoader());
+        for (String region : new String[]{DEPARTMENTS_REGION, COURSES_REGION, REFERENCE_QUERIES_REGION,
+                RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME}) {
+            CaffeineConfiguration<Object, Object> configuration = configuration();
+            configuration.setMaximumSize(OptionalLong.of(maxSize));
+            configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+            cacheManager.createCache(region, configuration);
+        }
+        // Update timestamps must outlive every cached query result, so this region is never evicted
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, configuration());
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    @Bean
+    public MeterBinder secondLevelCacheMetrics(CacheManager secondLevelCacheManager) {
+        return registry -> secondLevelCacheManager.getCacheNames().forEach(name -> JCacheMetrics.monitor(
+                registry, secondLevelCacheManager.getCache(name), "cacheManager", "hibernate"));
+    }
+
+    private static CaffeineConfiguration<Object, Object> configuration() {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setStatisticsEnabled(true);
+        return configuration;
+    }
+}
@@ -1,5 +1,6 @@
 package com.sms.config;
 
+import com.sms.security.LoginCapacityExceededException;
 import com.sms.service.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -10,6 +11,10 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.AuthenticationFailureHandler;
+import org.springframework.security.web.authentication.ExceptionMappingAuthenticationFailureHandler;
+
+import java.util.Map;
 
 @Configuration
 @EnableWebSecurity
@@ -24,7 +29,8 @@ public class SecurityConfig {
         http
             .csrf(csrf -> csrf.disable())
             .authorizeHttpRequests(auth -> auth
-                .requestMatchers("/", "/login", "/css/**", "/js/**", "/error").permitAll()
+                .requestMatchers("/", "/login", "/css/**", "/js/**", "/error", "/actuator/health").permitAll()
+                .requestMatchers("/actuator/**").hasRole("TEACHER")
                 .requestMatchers("/students/**", "/teachers/**", "/courses/**", "/departments/**").authenticated()
                 .requestMatchers("/teachers/new", "/teachers/*/edit", "/teachers/*/delete").hasRole("TEACHER")
                 .anyRequest().authenticated()
@@ -32,7 +38,7 @@ public class SecurityConfig {
             .formLogin(form -> form
                 .loginPage("/login")
                 .defaultSuccessUrl("/dashboard", true)
-                .failureUrl("/login?error")
+                .failureHandler(loginFailureHandler())
                 .permitAll()
             )
             .logout(logout -> logout
@@ -47,4 +53,11 @@ public class SecurityConfig {
         
         return http.build();
     }
+    
+    private AuthenticationFailureHandler loginFailureHandler() {
+        ExceptionMappingAuthenticationFailureHandler handler = new ExceptionMappingAuthenticationFailureHandler();
+        handler.setExceptionMappings(Map.of(LoginCapacityExceededException.class.getName(), "/login?busy"));
+        handler.setDefaultFailureUrl("/login?error");
+        return handler;
+    }
 }
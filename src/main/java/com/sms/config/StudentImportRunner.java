@@ -0,0 +1,50 @@
+package com.sms.config;
+
+import com.sms.dto.ImportReport;
+import com.sms.service.StudentImportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Headless student import: {@code --sms.import.students=intake.csv} imports the file, logs the report and
+ * exits with status 1 if any row was rejected. Combine with {@code --spring.main.web-application-type=none}
+ * to skip starting the web server.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty("sms.import.students")
+public class StudentImportRunner implements CommandLineRunner {
+
+    private final StudentImportService studentImportService;
+    private final ConfigurableApplicationContext context;
+
+    @Value("${sms.import.students}")
+    private Path file;
+
+    @Override
+    public void run(String... args) throws Exception {
+        ImportReport report;
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            report = studentImportService.importStudents(reader);
+        }
+        for (ImportReport.RowError error : report.getErrors()) {
+            log.warn("Line {}: {}", error.line(), error.message());
+        }
+        if (report.isErrorsTruncated()) {
+            log.warn("... {} more rejected rows not listed", report.getFailed() - report.getErrors().size());
+        }
+        System.exit(SpringApplication.exit(context, () -> report.getFailed() == 0 ? 0 : 1));
+    }
+}
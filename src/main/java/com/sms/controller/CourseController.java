@@ -1,9 +1,12 @@
 package com.sms.controller;
 
+import com.sms.dto.CourseSummary;
 import com.sms.entity.Course;
+import com.sms.repository.KeysetRequest;
+import com.sms.repository.KeysetSlice;
+import com.sms.dto.StudentSummary;
 import com.sms.service.CourseService;
-import com.sms.service.DepartmentService;
-import com.sms.service.TeacherService;
+import com.sms.service.StudentService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
@@ -16,12 +19,18 @@ import org.springframework.web.bind.annotation.*;
 public class CourseController {
     
     private final CourseService courseService;
-    private final DepartmentService departmentService;
-    private final TeacherService teacherService;
+    private final StudentService studentService;
     
     @GetMapping
-    public String listCourses(Model model) {
-        model.addAttribute("courses", courseService.getAllCourses());
+    public String listCourses(@RequestParam(defaultValue = "code") String sort,
+                              @RequestParam(defaultValue = "asc") String dir,
+                              @RequestParam(defaultValue = "${sms.list.page-size:25}") int size,
+                              @RequestParam(required = false) String after,
+                              @RequestParam(required = false) String before,
+                              Model model) {
+        KeysetSlice<CourseSummary> page = courseService.getCourseSlice(KeysetRequest.of(sort, dir, size, after, before));
+        model.addAttribute("courses", page.getContent());
+        model.addAttribute("page", page);
         return "courses/list";
     }
     
@@ -29,8 +38,6 @@ public class CourseController {
     @PreAuthorize("hasRole('TEACHER')")
     public String showCreateForm(Model model) {
         model.addAttribute("course", new Course());
-        model.addAttribute("departments", departmentService.getAllDepartments());
-        model.addAttribute("teachers", teacherService.getAllTeachers());
         return "courses/form";
     }
     
@@ -41,14 +48,32 @@ public class CourseController {
         return "redirect:/courses";
     }
     
+    @GetMapping("/{id}")
+    public String viewCourse(@PathVariable Long id,
+                             @RequestParam(defaultValue = "lastName") String sort,
+                             @RequestParam(defaultValue = "asc") String dir,
+                             @RequestParam(defaultValue = "${sms.list.page-size:25}") int size,
+                             @RequestParam(required = false) String after,
+                             @RequestParam(required = false) String before,
+                             Model model) {
+        Course course = courseService.getCourseById(id);
+        if (course != null) {
+            KeysetSlice<StudentSummary> page = studentService.getCourseRoster(id, KeysetRequest.of(sort, dir, size, after, before));
+            model.addAttribute("course", course);
+            model.addAttribute("enrolledCount", courseService.countEnrolledStudents(id));
+            model.addAttribute("students", page.getContent());
+            model.addAttribute("page", page);
+            return "courses/view";
+        }
+        return "redirect:/courses";
+    }
+    
     @GetMapping("/{id}/edit")
     @PreAuthorize("hasRole('TEACHER')")
     public String showEditForm(@PathVariable Long id, Model model) {
         Course course = courseService.getCourseById(id);
         if (course != null) {
             model.addAttribute("course", course);
-            model.addAttribute("departments", departmentService.getAllDepartments());
-            model.addAttribute("teachers", teacherService.getAllTeachers());
             return "courses/form";
         }
         return "redirect:/courses";
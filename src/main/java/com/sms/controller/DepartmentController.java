@@ -1,6 +1,8 @@
 package com.sms.controller;
 
 import com.sms.entity.Department;
+import com.sms.repository.KeysetRequest;
+import com.sms.repository.KeysetSlice;
 import com.sms.service.DepartmentService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -16,8 +18,15 @@ public class DepartmentController {
     private final DepartmentService departmentService;
     
     @GetMapping
-    public String listDepartments(Model model) {
-        model.addAttribute("departments", departmentService.getAllDepartments());
+    public String listDepartments(@RequestParam(defaultValue = "name") String sort,
+                                  @RequestParam(defaultValue = "asc") String dir,
+                                  @RequestParam(defaultValue = "${sms.list.page-size:25}") int size,
+                                  @RequestParam(required = false) String after,
+                                  @RequestParam(required = false) String before,
+                                  Model model) {
+        KeysetSlice<Department> page = departmentService.getDepartmentSlice(KeysetRequest.of(sort, dir, size, after, before));
+        model.addAttribute("departments", page.getContent());
+        model.addAttribute("page", page);
         return "departments/list";
     }
     
@@ -0,0 +1,45 @@
+package com.sms.controller;
+
+import com.sms.dto.EnrollmentChange;
+import com.sms.service.EnrollmentService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Set;
+
+/** JSON enrollment endpoints. Repeating a request is safe: already applied changes are skipped. */
+@RestController
+@RequestMapping("/api/courses/{courseId}/enrollments")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('TEACHER')")
+public class EnrollmentController {
+    
+    private final EnrollmentService enrollmentService;
+    
+    @PutMapping("/{studentId}")
+    public EnrollmentChange enroll(@PathVariable Long courseId, @PathVariable Long studentId) {
+        return new EnrollmentChange(courseId, 1, enrollmentService.enroll(studentId, courseId) ? 1 : 0);
+    }
+    
+    @DeleteMapping("/{studentId}")
+    public EnrollmentChange unenroll(@PathVariable Long courseId, @PathVariable Long studentId) {
+        return new EnrollmentChange(courseId, 1, enrollmentService.unenroll(studentId, courseId) ? 1 : 0);
+    }
+    
+    @PostMapping
+    public EnrollmentChange enrollAll(@PathVariable Long courseId, @RequestBody Set<Long> studentIds) {
+        return new EnrollmentChange(courseId, studentIds.size(), enrollmentService.enrollAll(studentIds, courseId));
+    }
+    
+    @DeleteMapping
+    public EnrollmentChange unenrollAll(@PathVariable Long courseId, @RequestBody Set<Long> studentIds) {
+        return new EnrollmentChange(courseId, studentIds.size(), enrollmentService.unenrollAll(studentIds, courseId));
+    }
+}
@@ -0,0 +1,69 @@
+package com.sms.controller;
+
+import com.sms.service.ExportService;
+import com.sms.service.ExportService.Format;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Export endpoints. The body is written straight to the servlet output stream while rows are read, so
+ * the response is sent chunked and nothing is buffered per request beyond the container's output buffer.
+ */
+@Controller
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('TEACHER')")
+public class ExportController {
+
+    private final ExportService exportService;
+
+    @GetMapping("/students/export")
+    public void exportStudents(@RequestParam(defaultValue = "csv") String format,
+                               @RequestParam(required = false) Long departmentId,
+                               HttpServletResponse response) throws IOException {
+        Format resolved = prepare(response, "students", format);
+        exportService.exportStudents(departmentId, resolved, response.getOutputStream());
+    }
+
+    @GetMapping("/teachers/export")
+    public void exportTeachers(@RequestParam(defaultValue = "csv") String format,
+                               @RequestParam(required = false) Long departmentId,
+                               HttpServletResponse response) throws IOException {
+        Format resolved = prepare(response, "teachers", format);
+        exportService.exportTeachers(departmentId, resolved, response.getOutputStream());
+    }
+
+    @GetMapping("/courses/export")
+    public void exportCourses(@RequestParam(defaultValue = "csv") String format,
+                              @RequestParam(required = false) Long departmentId,
+                              HttpServletResponse response) throws IOException {
+        Format resolved = prepare(response, "courses", format);
+        exportService.exportCourses(departmentId, resolved, response.getOutputStream());
+    }
+
+    private Format prepare(HttpServletResponse response, String name, String format) {
+        Format resolved;
+        try {
+            resolved = Format.of(format);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+        response.setContentType(resolved.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(name + "." + resolved.getExtension())
+                .build()
+                .toString());
+        return resolved;
+    }
+}
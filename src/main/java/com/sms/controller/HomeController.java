@@ -1,11 +1,17 @@
 package com.sms.controller;
 
+import com.sms.service.DashboardStatistics;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 
 @Controller
+@RequiredArgsConstructor
 public class HomeController {
     
+    private final DashboardStatistics dashboardStatistics;
+    
     @GetMapping("/")
     public String home() {
         return "index";
@@ -17,7 +23,8 @@ public class HomeController {
     }
     
     @GetMapping("/dashboard")
-    public String dashboard() {
+    public String dashboard(Model model) {
+        model.addAttribute("stats", dashboardStatistics.snapshot());
         return "dashboard";
     }
 }
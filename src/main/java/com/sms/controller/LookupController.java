@@ -0,0 +1,43 @@
+package com.sms.controller;
+
+import com.sms.dto.LookupOption;
+import com.sms.search.DocumentType;
+import com.sms.search.SearchIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Typeahead lookups for the department and teacher fields of the entity forms. Answered from the prefix
+ * index in {@link SearchIndex}, so a form no longer loads every department and teacher to render its options.
+ */
+@RestController
+@RequestMapping("/api/lookup")
+@RequiredArgsConstructor
+public class LookupController {
+    
+    private final SearchIndex searchIndex;
+    
+    @GetMapping("/departments")
+    public List<LookupOption> departments(@RequestParam(defaultValue = "") String q,
+                                          @RequestParam(defaultValue = "10") int limit) {
+        return lookup(DocumentType.DEPARTMENT, q, limit);
+    }
+    
+    @GetMapping("/teachers")
+    public List<LookupOption> teachers(@RequestParam(defaultValue = "") String q,
+                                       @RequestParam(defaultValue = "10") int limit) {
+        return lookup(DocumentType.TEACHER, q, limit);
+    }
+    
+    private List<LookupOption> lookup(DocumentType type, String q, int limit) {
+        return searchIndex.search(q, Set.of(type), limit).stream()
+                .map(hit -> new LookupOption(hit.id(), hit.label()))
+                .toList();
+    }
+}
@@ -0,0 +1,25 @@
+package com.sms.controller;
+
+import com.sms.search.SearchIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/** JSON lookups for the navbar search box, answered from the in-memory {@link SearchIndex}. */
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+public class SearchApiController {
+    
+    private final SearchIndex searchIndex;
+    
+    @GetMapping
+    public List<SearchIndex.Hit> search(@RequestParam(defaultValue = "") String q,
+                                        @RequestParam(defaultValue = "10") int limit) {
+        return searchIndex.search(q, limit);
+    }
+}
@@ -0,0 +1,41 @@
+package com.sms.controller;
+
+import com.sms.repository.KeysetRequest;
+import com.sms.service.StudentService;
+import com.sms.service.TeacherService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+@Controller
+@RequestMapping("/search")
+@RequiredArgsConstructor
+public class SearchController {
+    
+    private final StudentService studentService;
+    private final TeacherService teacherService;
+    
+    @GetMapping
+    public String search(@RequestParam(defaultValue = "") String q,
+                         @RequestParam(defaultValue = "students") String type,
+                         @RequestParam(defaultValue = "0") int page,
+                         @RequestParam(defaultValue = "${sms.list.page-size:25}") int size,
+                         Model model) {
+        Pageable pageable = PageRequest.of(Math.max(0, page), Math.max(1, Math.min(size, KeysetRequest.MAX_SIZE)));
+        String resolvedType = "teachers".equals(type) ? "teachers" : "students";
+        Slice<?> results = resolvedType.equals("teachers")
+                ? teacherService.searchTeachers(q, pageable)
+                : studentService.searchStudents(q, pageable);
+        model.addAttribute("q", q);
+        model.addAttribute("type", resolvedType);
+        model.addAttribute("results", results.getContent());
+        model.addAttribute("page", results);
+        return "search";
+    }
+}
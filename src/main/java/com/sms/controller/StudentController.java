@@ -1,27 +1,45 @@
 package com.sms.controller;
 
+import com.sms.dto.ImportReport;
+import com.sms.dto.StudentSummary;
 import com.sms.entity.Student;
 import com.sms.entity.User;
-import com.sms.service.DepartmentService;
+import com.sms.repository.KeysetRequest;
+import com.sms.repository.KeysetSlice;
+import com.sms.service.StudentImportService;
 import com.sms.service.StudentService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+
 @Controller
 @RequestMapping("/students")
 @RequiredArgsConstructor
 public class StudentController {
     
     private final StudentService studentService;
-    private final DepartmentService departmentService;
+    private final StudentImportService studentImportService;
     
     @GetMapping
-    public String listStudents(Model model) {
-        model.addAttribute("students", studentService.getAllStudents());
+    public String listStudents(@RequestParam(defaultValue = "lastName") String sort,
+                               @RequestParam(defaultValue = "asc") String dir,
+                               @RequestParam(defaultValue = "${sms.list.page-size:25}") int size,
+                               @RequestParam(required = false) String after,
+                               @RequestParam(required = false) String before,
+                               Model model) {
+        KeysetSlice<StudentSummary> page = studentService.getStudentSlice(KeysetRequest.of(sort, dir, size, after, before));
+        model.addAttribute("students", page.getContent());
+        model.addAttribute("page", page);
         return "students/list";
     }
     
@@ -29,7 +47,6 @@ public class StudentController {
     @PreAuthorize("hasRole('TEACHER')")
     public String showCreateForm(Model model) {
         model.addAttribute("student", new Student());
-        model.addAttribute("departments", departmentService.getAllDepartments());
         return "students/form";
     }
     
@@ -47,13 +64,33 @@ public class StudentController {
         return "redirect:/students";
     }
     
+    @GetMapping("/import")
+    @PreAuthorize("hasRole('TEACHER')")
+    public String showImportForm() {
+        return "students/import";
+    }
+    
+    @PostMapping("/import")
+    @PreAuthorize("hasRole('TEACHER')")
+    public String importStudents(@RequestParam("file") MultipartFile file, Model model) {
+        try (Reader reader = new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8)) {
+            ImportReport report = studentImportService.importStudents(reader);
+            model.addAttribute("report", report);
+            if (report.getFailed() == 0) {
+                model.addAttribute("successMessage", report.getImported() + " students imported successfully!");
+            }
+        } catch (IOException e) {
+            model.addAttribute("errorMessage", "Could not read the uploaded file: " + e.getMessage());
+        }
+        return "students/import";
+    }
+    
     @GetMapping("/{id}/edit")
     @PreAuthorize("hasRole('TEACHER')")
     public String showEditForm(@PathVariable Long id, Model model) {
         Student student = studentService.getStudentById(id);
         if (student != null) {
             model.addAttribute("student", student);
-            model.addAttribute("departments", departmentService.getAllDepartments());
             return "students/form";
         }
         return "redirect:/students";
@@ -61,8 +98,20 @@ public class StudentController {
     
     @PostMapping("/{id}")
     @PreAuthorize("hasRole('TEACHER')")
-    public String updateStudent(@PathVariable Long id, @ModelAttribute Student student, RedirectAttributes redirectAttributes) {
-        studentService.updateStudent(id, student);
+    public String updateStudent(@PathVariable Long id, @ModelAttribute Student student, Model model,
+                                RedirectAttributes redirectAttributes) {
+        try {
+            studentService.updateStudent(id, student);
+        } catch (OptimisticLockingFailureException e) {
+            Student current = studentService.getStudentById(id);
+            if (current == null) {
+                return "redirect:/students";
+            }
+            model.addAttribute("student", current);
+            model.addAttribute("errorMessage", "This student was changed by someone else while you were editing. "
+                    + "The form now shows the saved values; make your changes again and save.");
+            return "students/form";
+        }
         redirectAttributes.addFlashAttribute("successMessage", "Student updated successfully!");
         return "redirect:/students";
     }
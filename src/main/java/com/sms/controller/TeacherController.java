@@ -1,10 +1,14 @@
 package com.sms.controller;
 
+import com.sms.dto.TeacherSummary;
 import com.sms.entity.Teacher;
 import com.sms.entity.User;
-import com.sms.service.DepartmentService;
+import com.sms.repository.KeysetRequest;
+import com.sms.repository.KeysetSlice;
+import com.sms.service.CourseService;
 import com.sms.service.TeacherService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -16,11 +20,18 @@ import org.springframework.web.bind.annotation.*;
 public class TeacherController {
     
     private final TeacherService teacherService;
-    private final DepartmentService departmentService;
+    private final CourseService courseService;
     
     @GetMapping
-    public String listTeachers(Model model) {
-        model.addAttribute("teachers", teacherService.getAllTeachers());
+    public String listTeachers(@RequestParam(defaultValue = "lastName") String sort,
+                               @RequestParam(defaultValue = "asc") String dir,
+                               @RequestParam(defaultValue = "${sms.list.page-size:25}") int size,
+                               @RequestParam(required = false) String after,
+                               @RequestParam(required = false) String before,
+                               Model model) {
+        KeysetSlice<TeacherSummary> page = teacherService.getTeacherSlice(KeysetRequest.of(sort, dir, size, after, before));
+        model.addAttribute("teachers", page.getContent());
+        model.addAttribute("page", page);
         return "teachers/list";
     }
     
@@ -28,7 +39,6 @@ public class TeacherController {
     @PreAuthorize("hasRole('TEACHER')")
     public String showCreateForm(Model model) {
         model.addAttribute("teacher", new Teacher());
-        model.addAttribute("departments", departmentService.getAllDepartments());
         return "teachers/form";
     }
     
@@ -50,7 +60,6 @@ public class TeacherController {
         Teacher teacher = teacherService.getTeacherById(id);
         if (teacher != null) {
             model.addAttribute("teacher", teacher);
-            model.addAttribute("departments", departmentService.getAllDepartments());
             return "teachers/form";
         }
         return "redirect:/teachers";
@@ -58,8 +67,19 @@ public class TeacherController {
     
     @PostMapping("/{id}")
     @PreAuthorize("hasRole('TEACHER')")
-    public String updateTeacher(@PathVariable Long id, @ModelAttribute Teacher teacher) {
-        teacherService.updateTeacher(id, teacher);
+    public String updateTeacher(@PathVariable Long id, @ModelAttribute Teacher teacher, Model model) {
+        try {
+            teacherService.updateTeacher(id, teacher);
+        } catch (OptimisticLockingFailureException e) {
+            Teacher current = teacherService.getTeacherById(id);
+            if (current == null) {
+                return "redirect:/teachers";
+            }
+            model.addAttribute("teacher", current);
+            model.addAttribute("errorMessage", "This teacher was changed by someone else while you were editing. "
+                    + "The form now shows the saved values; make your changes again and save.");
+            return "teachers/form";
+        }
         return "redirect:/teachers";
     }
     
@@ -75,6 +95,7 @@ public class TeacherController {
         Teacher teacher = teacherService.getTeacherById(id);
         if (teacher != null) {
             model.addAttribute("teacher", teacher);
+            model.addAttribute("courses", courseService.getEnrollmentCountsByTeacher(id));
             return "teachers/view";
         }
         return "redirect:/teachers";
@@ -0,0 +1,125 @@
+package com.sms.csv;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Forward-only RFC 4180 reader. Characters are pulled through a fixed buffer and every record is parsed into
+ * the same reused list, so memory stays constant however large the input is.
+ */
+public class CsvReader implements Closeable {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Reader reader;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private final StringBuilder field = new StringBuilder(64);
+    private final List<String> record = new ArrayList<>();
+    private int position;
+    private int limit;
+    private long line = 1;
+    private long recordLine;
+    private boolean started;
+
+    public CsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Reads the next record. The returned list is reused by the following call; returns null at end of input.
+     * Blank lines are skipped.
+     */
+    public List<String> next() throws IOException {
+        record.clear();
+        int c = read();
+        while (c == '\r' || c == '\n') {
+            endLine(c);
+            c = read();
+        }
+        if (c == -1) {
+            return null;
+        }
+        recordLine = line;
+        boolean quoted = false;
+        boolean afterQuote = false;
+        field.setLength(0);
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new IOException("Unterminated quoted field starting on line " + recordLine);
+                }
+                if (c == '"') {
+                    int peek = read();
+                    if (peek == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        afterQuote = true;
+                        c = peek;
+                        continue;
+                    }
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == ',') {
+                record.add(field.toString());
+                field.setLength(0);
+                afterQuote = false;
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                record.add(field.toString());
+                if (c != -1) {
+                    endLine(c);
+                }
+                return record;
+            } else if (c == '"' && field.isEmpty() && !afterQuote) {
+                quoted = true;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    /** Line on which the record last returned by {@link #next()} starts. */
+    public long getRecordLine() {
+        return recordLine;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /** Consumes the rest of a line break that started with {@code c} (CR, LF or CRLF). */
+    private void endLine(int c) throws IOException {
+        line++;
+        if (c == '\r' && read() != '\n' && limit > 0) {
+            position--;
+        }
+    }
+
+    private int read() throws IOException {
+        if (position == limit) {
+            limit = reader.read(buffer, 0, BUFFER_SIZE);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return -1;
+            }
+            if (!started) {
+                started = true;
+                if (buffer[0] == '\uFEFF') {
+                    position = 1;
+                    return read();
+                }
+            }
+        }
+        return buffer[position++];
+    }
+}
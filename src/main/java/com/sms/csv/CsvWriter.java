@@ -0,0 +1,52 @@
+package com.sms.csv;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * Writes RFC 4180 records straight to the underlying writer; fields containing separators, quotes or line
+ * breaks are quoted. Nothing is retained between records.
+ */
+public class CsvWriter implements Flushable {
+
+    private final Writer writer;
+
+    public CsvWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    public void writeRecord(List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Object value = values.get(i);
+            if (value != null) {
+                writeField(value.toString());
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    private void writeField(String value) throws IOException {
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+}
@@ -0,0 +1,92 @@
+package com.sms.datasource;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sends read-only transactions to the replica pool and everything else to the primary. Connections are fetched
+ * lazily, on the first statement, once the transaction has marked them read-only, which
+ * {@code @Transactional(readOnly = true)} does.
+ *
+ * <p>When the replica cannot hand out a connection, reads fall back to the primary and the replica is left
+ * alone for {@code replicaRetryInterval}. Connections handed out are counted by route ({@code read} or
+ * {@code write}) and by the database that served them.
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends LazyConnectionDataSourceProxy implements MeterBinder {
+
+    private final LongAdder writes = new LongAdder();
+    private final LongAdder replicaReads = new LongAdder();
+    private final LongAdder primaryReads = new LongAdder();
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, Duration replicaRetryInterval) {
+        setTargetDataSource(new DelegatingDataSource(primary) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                Connection connection = super.getConnection();
+                writes.increment();
+                return connection;
+            }
+        });
+        setReadOnlyDataSource(new ReplicaDataSource(replica, primary, replicaRetryInterval));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bind(registry, "write", "primary", writes);
+        bind(registry, "read", "replica", replicaReads);
+        bind(registry, "read", "primary", primaryReads);
+    }
+
+    private static void bind(MeterRegistry registry, String route, String database, LongAdder count) {
+        FunctionCounter.builder("sms.db.routed.connections", count, LongAdder::sum)
+                .description("Connections handed out by transaction kind and the database that served them")
+                .tag("route", route)
+                .tag("database", database)
+                .register(registry);
+    }
+
+    private final class ReplicaDataSource extends DelegatingDataSource {
+
+        private final DataSource primary;
+        private final long retryIntervalNanos;
+        private volatile long replicaDownUntil;
+        private volatile boolean replicaDown;
+
+        private ReplicaDataSource(DataSource replica, DataSource primary, Duration retryInterval) {
+            super(replica);
+            this.primary = primary;
+            this.retryIntervalNanos = retryInterval.toNanos();
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (!replicaDown || System.nanoTime() - replicaDownUntil >= 0) {
+                try {
+                    Connection connection = super.getConnection();
+                    replicaDown = false;
+                    replicaReads.increment();
+                    return connection;
+                } catch (SQLException e) {
+                    replicaDownUntil = System.nanoTime() + retryIntervalNanos;
+                    replicaDown = true;
+                    log.warn("Replica unavailable, reading from the primary for the next {}: {}",
+                            Duration.ofNanos(retryIntervalNanos), e.getMessage());
+                }
+            }
+            Connection connection = primary.getConnection();
+            primaryReads.increment();
+            return connection;
+        }
+    }
+}
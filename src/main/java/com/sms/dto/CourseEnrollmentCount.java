@@ -0,0 +1,5 @@
+package com.sms.dto;
+
+/** A course with its number of enrolled students, counted by the database rather than by loading the students. */
+public record CourseEnrollmentCount(Long id, String code, String name, Integer credits, Long enrolled) {
+}
@@ -0,0 +1,13 @@
+package com.sms.dto;
+
+/**
+ * Read-only row of the course list, built by a single joined query instead of loading {@code Course}
+ * with its lazy department and teacher.
+ */
+public record CourseSummary(Long id, String code, String name, Integer credits, String departmentName,
+                            String teacherFirstName, String teacherLastName) {
+
+    public String getTeacherName() {
+        return teacherFirstName != null ? teacherFirstName + " " + teacherLastName : null;
+    }
+}
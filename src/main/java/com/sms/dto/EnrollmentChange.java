@@ -0,0 +1,5 @@
+package com.sms.dto;
+
+/** Outcome of an enrollment request: how many of the requested students were actually enrolled or removed. */
+public record EnrollmentChange(Long courseId, int requested, int changed) {
+}
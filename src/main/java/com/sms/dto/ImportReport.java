@@ -0,0 +1,57 @@
+package com.sms.dto;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Outcome of a bulk import. Only the first {@value #MAX_REPORTED_ERRORS} row errors are kept so that a
+ * badly broken file cannot grow the report without bound; the rest are only counted.
+ */
+public class ImportReport {
+
+    public static final int MAX_REPORTED_ERRORS = 1000;
+
+    private long rows;
+    private long imported;
+    private long failed;
+    private final List<RowError> errors = new ArrayList<>();
+
+    public record RowError(long line, String message) {
+    }
+
+    public void rowRead() {
+        rows++;
+    }
+
+    public void imported(int count) {
+        imported += count;
+    }
+
+    public void rejected(long line, String message) {
+        failed++;
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add(new RowError(line, message));
+        }
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public long getImported() {
+        return imported;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public List<RowError> getErrors() {
+        return Collections.unmodifiableList(errors);
+    }
+
+    public boolean isErrorsTruncated() {
+        return failed > errors.size();
+    }
+}
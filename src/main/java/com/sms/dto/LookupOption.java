@@ -0,0 +1,5 @@
+package com.sms.dto;
+
+/** One typeahead suggestion: the id posted with the form and the label shown to the user. */
+public record LookupOption(Long id, String label) {
+}
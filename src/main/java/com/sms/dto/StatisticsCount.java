@@ -0,0 +1,12 @@
+package com.sms.dto;
+
+/**
+ * One row of the dashboard statistics query.
+ *
+ * @param kind  {@code D} department (count unused), {@code S}/{@code T}/{@code C} students, teachers or courses
+ *              of a department, {@code E} enrollments of a course
+ * @param id    department id ({@code null} for rows without a department) or course id
+ * @param label department name or course label, {@code null} for the per-department counts
+ */
+public record StatisticsCount(String kind, Long id, String label, long count) {
+}
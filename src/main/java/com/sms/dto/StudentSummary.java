@@ -0,0 +1,9 @@
+package com.sms.dto;
+
+/**
+ * Read-only row of the student list, built by a single joined query instead of loading {@code Student}
+ * and its lazy department.
+ */
+public record StudentSummary(Long id, String studentId, String firstName, String lastName, String email,
+                             String departmentName) {
+}
@@ -0,0 +1,9 @@
+package com.sms.dto;
+
+/**
+ * Read-only row of the teacher list, built by a single joined query instead of loading {@code Teacher}
+ * and its lazy department.
+ */
+public record TeacherSummary(Long id, String employeeId, String firstName, String lastName, String email,
+                             String specialization, String departmentName) {
+}
@@ -1,22 +1,35 @@
 package com.sms.entity;
 
+import com.sms.search.SearchIndexListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "courses")
-@Data
+@Table(name = "courses", indexes = {
+    @Index(name = "idx_courses_name_id", columnList = "name, id")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "courses")
+@EntityListeners(SearchIndexListener.class)
+@Getter
+@Setter
+@ToString
 @NoArgsConstructor
 @AllArgsConstructor
-public class Course {
+public class Course extends IdentifiedEntity {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "courses_seq")
+    @SequenceGenerator(name = "courses_seq", sequenceName = "courses_seq", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false, unique = true)
@@ -30,14 +43,17 @@ public class Course {
     
     private Integer credits;
     
+    @ToString.Exclude
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "department_id")
     private Department department;
     
+    @ToString.Exclude
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "teacher_id")
     private Teacher teacher;
     
+    @ToString.Exclude
     @ManyToMany(mappedBy = "courses")
     private Set<Student> students = new HashSet<>();
 }
@@ -1,22 +1,33 @@
 package com.sms.entity;
 
+import com.sms.search.SearchIndexListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.HashSet;
 import java.util.Set;
 
 @Entity
 @Table(name = "departments")
-@Data
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "departments")
+@EntityListeners(SearchIndexListener.class)
+@Getter
+@Setter
+@ToString
 @NoArgsConstructor
 @AllArgsConstructor
-public class Department {
+public class Department extends IdentifiedEntity {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "departments_seq")
+    @SequenceGenerator(name = "departments_seq", sequenceName = "departments_seq", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false, unique = true)
@@ -25,12 +36,15 @@ public class Department {
     @Column(length = 500)
     private String description;
     
+    @ToString.Exclude
     @OneToMany(mappedBy = "department", cascade = CascadeType.ALL)
     private Set<Course> courses = new HashSet<>();
     
+    @ToString.Exclude
     @OneToMany(mappedBy = "department", cascade = CascadeType.ALL)
     private Set<Student> students = new HashSet<>();
     
+    @ToString.Exclude
     @OneToMany(mappedBy = "department", cascade = CascadeType.ALL)
     private Set<Teacher> teachers = new HashSet<>();
 }
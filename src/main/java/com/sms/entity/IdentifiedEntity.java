@@ -0,0 +1,38 @@
+package com.sms.entity;
+
+import jakarta.persistence.MappedSuperclass;
+import org.hibernate.proxy.HibernateProxy;
+
+/**
+ * Id-based identity for the entities: two instances are equal when they are of the same entity class and have
+ * the same id; unsaved instances are only equal to themselves. The hash is a per-class constant, so it does not
+ * change when the entity is saved and gets its id. A lazy proxy compares equal to the loaded entity.
+ */
+@MappedSuperclass
+public abstract class IdentifiedEntity {
+
+    public abstract Long getId();
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof IdentifiedEntity other) || entityClass(this) != entityClass(other)) {
+            return false;
+        }
+        Long id = getId();
+        return id != null && id.equals(other.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return entityClass(this).hashCode();
+    }
+
+    private static Class<?> entityClass(Object entity) {
+        return entity instanceof HibernateProxy proxy
+                ? proxy.getHibernateLazyInitializer().getPersistentClass()
+                : entity.getClass();
+    }
+}
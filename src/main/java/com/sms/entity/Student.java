@@ -1,24 +1,43 @@
 package com.sms.entity;
 
+import com.sms.search.SearchIndexListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "students")
-@Data
+@Table(name = "students", indexes = {
+    @Index(name = "idx_students_last_name_id", columnList = "lastName, id"),
+    @Index(name = "idx_students_first_name_id", columnList = "firstName, id")
+})
+@EntityListeners(SearchIndexListener.class)
+@DynamicUpdate
+@Getter
+@Setter
+@ToString
 @NoArgsConstructor
 @AllArgsConstructor
-public class Student {
+public class Student extends IdentifiedEntity {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "students_seq")
+    @SequenceGenerator(name = "students_seq", sequenceName = "students_seq", allocationSize = 50)
     private Long id;
     
+    /** Bumped on every update; an edit based on an older version is rejected instead of overwriting. */
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+    
     @Column(nullable = false, unique = true)
     private String studentId;
     
@@ -35,10 +54,12 @@ public class Student {
     
     private String address;
     
+    @ToString.Exclude
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "department_id")
     private Department department;
     
+    @ToString.Exclude
     @ManyToMany
     @JoinTable(
         name = "student_courses",
@@ -47,6 +68,7 @@ public class Student {
     )
     private Set<Course> courses = new HashSet<>();
     
+    @ToString.Exclude
     @OneToOne(cascade = CascadeType.ALL)
     @JoinColumn(name = "user_id", referencedColumnName = "id")
     private User user;
@@ -0,0 +1,105 @@
+package com.sms.monitoring;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Wraps the pooled {@link DataSource} to report, for the request bound to the current thread, how long each
+ * connection stays checked out and how much of that time is spent executing statements.
+ */
+public class ConnectionTrackingDataSource extends DelegatingDataSource {
+
+    public ConnectionTrackingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return track(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return track(super.getConnection(username, password));
+    }
+
+    private Connection track(Connection connection) {
+        DbRequestStats stats = DbRequestStats.current();
+        if (stats == null) {
+            return connection;
+        }
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                new ConnectionHandler(connection, stats));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private static final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+        private final DbRequestStats stats;
+        private final long acquiredAt = System.nanoTime();
+        private boolean released;
+
+        private ConnectionHandler(Connection target, DbRequestStats stats) {
+            this.target = target;
+            this.stats = stats;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getName().equals("close") && !released) {
+                released = true;
+                stats.connectionReleased(System.nanoTime() - acquiredAt);
+            }
+            Object result = ConnectionTrackingDataSource.invoke(target, method, args);
+            if (result instanceof Statement statement) {
+                Class<?> type = statement instanceof CallableStatement ? CallableStatement.class
+                        : statement instanceof PreparedStatement ? PreparedStatement.class : Statement.class;
+                return Proxy.newProxyInstance(ConnectionTrackingDataSource.class.getClassLoader(),
+                        new Class<?>[]{type}, new StatementHandler(statement, stats));
+            }
+            return result;
+        }
+    }
+
+    private static final class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private final DbRequestStats stats;
+
+        private StatementHandler(Statement target, DbRequestStats stats) {
+            this.target = target;
+            this.stats = stats;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (!method.getName().startsWith("execute")) {
+                return ConnectionTrackingDataSource.invoke(target, method, args);
+            }
+            long start = System.nanoTime();
+            try {
+                return ConnectionTrackingDataSource.invoke(target, method, args);
+            } finally {
+                stats.statementExecuted(System.nanoTime() - start);
+            }
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.sms.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes, per request, the time JDBC connections were held next to the time spent running statements.
+ * A large gap between the two means connections are kept out of the pool while no query is running.
+ *
+ * <p>Statement counts are published per endpoint and controller method. A request that runs more statements
+ * than the budget, or prepares the same select shape at least {@code nPlusOneThreshold} times (the same query
+ * for one row after another), is logged with its endpoint.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class DbRequestMetricsFilter extends OncePerRequestFilter {
+
+    private static final int MAX_LOGGED_SQL = 300;
+
+    private final MeterRegistry meterRegistry;
+    private final int statementBudget;
+    private final int nPlusOneThreshold;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        DbRequestStats stats = DbRequestStats.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            DbRequestStats.end();
+            if (stats.getConnections() > 0) {
+                record(request, stats);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, DbRequestStats stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        String handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE)
+                instanceof HandlerMethod method
+                ? method.getBeanType().getSimpleName() + "#" + method.getMethod().getName() : "none";
+        Tags tags = Tags.of("uri", uri, "handler", handler);
+        Timer.builder("sms.db.connection.hold")
+                .description("Time JDBC connections were checked out while serving a request")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(stats.getConnectionHoldNanos(), TimeUnit.NANOSECONDS);
+        Timer.builder("sms.db.query")
+                .description("Time spent executing SQL statements while serving a request")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(stats.getQueryNanos(), TimeUnit.NANOSECONDS);
+        DistributionSummary.builder("sms.db.statements")
+                .description("SQL statements executed while serving a request")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(stats.getStatements());
+        log.debug("{} {}: {} connection(s) held {} ms, {} statement(s) ran {} ms", request.getMethod(), uri,
+                stats.getConnections(), TimeUnit.NANOSECONDS.toMillis(stats.getConnectionHoldNanos()),
+                stats.getStatements(), TimeUnit.NANOSECONDS.toMillis(stats.getQueryNanos()));
+
+        if (stats.getStatements() > statementBudget) {
+            log.warn("{} {} ({}) ran {} statements in {} ms, over the budget of {}", request.getMethod(), uri,
+                    handler, stats.getStatements(), TimeUnit.NANOSECONDS.toMillis(stats.getQueryNanos()),
+                    statementBudget);
+        }
+        if (stats.getMostRepeatedSelectCount() >= nPlusOneThreshold) {
+            Counter.builder("sms.db.repeated.selects")
+                    .description("Requests that prepared the same select shape at least the N+1 threshold times")
+                    .tags(tags)
+                    .register(meterRegistry)
+                    .increment();
+            String sql = stats.getMostRepeatedSelect();
+            log.warn("{} {} ({}) looks like N+1: the same select ran {} times: {}", request.getMethod(), uri,
+                    handler, stats.getMostRepeatedSelectCount(),
+                    sql.length() > MAX_LOGGED_SQL ? sql.substring(0, MAX_LOGGED_SQL) + "..." : sql);
+        }
+    }
+}
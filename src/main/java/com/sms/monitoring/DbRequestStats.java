@@ -0,0 +1,83 @@
+package com.sms.monitoring;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Database usage accumulated while serving one HTTP request: how long pooled connections were checked
+ * out versus how long statements were actually executing on them, and how often each select shape was prepared.
+ */
+public class DbRequestStats {
+
+    private static final ThreadLocal<DbRequestStats> CURRENT = new ThreadLocal<>();
+
+    private int connections;
+    private long connectionHoldNanos;
+    private int statements;
+    private long queryNanos;
+    private final Map<String, Integer> selectShapes = new HashMap<>();
+    private String mostRepeatedSelect;
+    private int mostRepeatedSelectCount;
+
+    static DbRequestStats begin() {
+        DbRequestStats stats = new DbRequestStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    /** Stats of the request bound to the current thread, or null outside of a request. */
+    public static DbRequestStats current() {
+        return CURRENT.get();
+    }
+
+    void connectionReleased(long holdNanos) {
+        connections++;
+        connectionHoldNanos += holdNanos;
+    }
+
+    void statementExecuted(long nanos) {
+        statements++;
+        queryNanos += nanos;
+    }
+
+    void statementPrepared(String shape) {
+        // Writes are batched under a single shape, so only selects are candidates for an N+1 pattern
+        if (!shape.startsWith("select") && !shape.startsWith("with")) {
+            return;
+        }
+        int count = selectShapes.merge(shape, 1, Integer::sum);
+        if (count > mostRepeatedSelectCount) {
+            mostRepeatedSelectCount = count;
+            mostRepeatedSelect = shape;
+        }
+    }
+
+    public int getConnections() {
+        return connections;
+    }
+
+    public long getConnectionHoldNanos() {
+        return connectionHoldNanos;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getQueryNanos() {
+        return queryNanos;
+    }
+
+    /** The select shape prepared most often during the request, or null if no select ran. */
+    public String getMostRepeatedSelect() {
+        return mostRepeatedSelect;
+    }
+
+    public int getMostRepeatedSelectCount() {
+        return mostRepeatedSelectCount;
+    }
+}
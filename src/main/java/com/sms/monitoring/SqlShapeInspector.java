@@ -0,0 +1,35 @@
+package com.sms.monitoring;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Hands every SQL statement Hibernate prepares to the request bound to the current thread, reduced to its shape:
+ * literals and bind-parameter lists are replaced by a single {@code ?}, so the same query with different ids or
+ * a different number of ids counts as one shape. The SQL itself is passed through unchanged.
+ */
+public class SqlShapeInspector implements StatementInspector {
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    @Override
+    public String inspect(String sql) {
+        DbRequestStats stats = DbRequestStats.current();
+        if (stats != null) {
+            stats.statementPrepared(shape(sql));
+        }
+        return sql;
+    }
+
+    static String shape(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = PARAMETER_LIST.matcher(shape).replaceAll("(?)");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,75 @@
+package com.sms.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Streams the JFR {@code jdk.VirtualThreadPinned} event in-process. The event fires when a virtual thread blocks
+ * while pinned to its carrier (inside {@code synchronized} or a native frame) for longer than the threshold; each
+ * one is counted, timed and logged with the application frame that pinned it.
+ */
+@Slf4j
+public class VirtualThreadPinningMonitor implements InitializingBean, DisposableBean {
+
+    private static final String EVENT = "jdk.VirtualThreadPinned";
+
+    private final Duration threshold;
+    private final Counter pinned;
+    private final Timer pinnedTime;
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(Duration threshold, MeterRegistry meterRegistry) {
+        this.threshold = threshold;
+        this.pinned = Counter.builder("sms.virtual-threads.pinned")
+                .description("Times a virtual thread blocked while pinned to its carrier thread")
+                .register(meterRegistry);
+        this.pinnedTime = Timer.builder("sms.virtual-threads.pinned.duration")
+                .description("How long virtual threads stayed blocked while pinned")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        stream = new RecordingStream();
+        stream.enable(EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(EVENT, this::record);
+        stream.startAsync();
+    }
+
+    @Override
+    public void destroy() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    private void record(RecordedEvent event) {
+        pinned.increment();
+        pinnedTime.record(event.getDuration());
+        log.warn("Virtual thread pinned for {} ms at {}", event.getDuration().toMillis(), culprit(event));
+    }
+
+    private static String culprit(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "unknown";
+        }
+        List<RecordedFrame> frames = event.getStackTrace().getFrames();
+        return frames.stream()
+                .filter(frame -> frame.getMethod().getType().getName().startsWith("com.sms."))
+                .findFirst()
+                .or(() -> frames.stream().findFirst())
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + ":" + frame.getLineNumber())
+                .orElse("unknown");
+    }
+}
@@ -1,16 +1,59 @@
 package com.sms.repository;
 
+import com.sms.dto.CourseEnrollmentCount;
+import com.sms.dto.CourseSummary;
 import com.sms.entity.Course;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_CACHE_REGION;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
-public interface CourseRepository extends JpaRepository<Course, Long> {
+public interface CourseRepository extends JpaRepository<Course, Long>, CourseRepositoryCustom {
     Optional<Course> findByCode(String code);
     List<Course> findByDepartmentId(Long departmentId);
     List<Course> findByTeacherId(Long teacherId);
     boolean existsByCode(String code);
+    
+    @Query("select c.id from Course c where c.department.id = :departmentId")
+    List<Long> findIdsByDepartmentId(Long departmentId);
+    
+    @Override
+    @QueryHints({@QueryHint(name = HINT_CACHEABLE, value = "true"), @QueryHint(name = HINT_CACHE_REGION, value = "reference-queries")})
+    List<Course> findAll();
+    
+    @EntityGraph(attributePaths = {"department", "teacher"})
+    Optional<Course> findWithDetailsById(Long id);
+    
+    @EntityGraph(attributePaths = {"department", "teacher"})
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "500"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    Stream<Course> streamAllBy();
+    
+    @EntityGraph(attributePaths = {"department", "teacher"})
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "500"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    Stream<Course> streamByDepartmentId(Long departmentId);
+    
+    @Query("select new com.sms.dto.CourseSummary(c.id, c.code, c.name, c.credits, d.name, t.firstName, t.lastName) "
+            + "from Course c left join c.department d left join c.teacher t")
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    Stream<CourseSummary> streamSummaries();
+    
+    @Query("select count(s) from Course c join c.students s where c.id = :courseId")
+    long countEnrolledStudents(Long courseId);
+    
+    @Query("select new com.sms.dto.CourseEnrollmentCount(c.id, c.code, c.name, c.credits, count(s)) "
+            + "from Course c left join c.students s where c.teacher.id = :teacherId "
+            + "group by c.id, c.code, c.name, c.credits order by c.code")
+    List<CourseEnrollmentCount> findEnrollmentCountsByTeacherId(Long teacherId);
 }
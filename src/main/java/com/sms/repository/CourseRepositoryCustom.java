@@ -0,0 +1,10 @@
+package com.sms.repository;
+
+import com.sms.dto.CourseSummary;
+
+public interface CourseRepositoryCustom {
+    KeysetSlice<CourseSummary> findSummarySlice(KeysetRequest request);
+    
+    /** Deletes every {@code student_courses} row of the course without loading {@code Course.students}. */
+    int deleteEnrollments(Long courseId);
+}
@@ -0,0 +1,40 @@
+package com.sms.repository;
+
+import com.sms.dto.CourseSummary;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.query.NativeQuery;
+
+import java.util.Map;
+import java.util.function.Function;
+
+class CourseRepositoryCustomImpl implements CourseRepositoryCustom {
+
+    private static final String SELECT =
+            "new com.sms.dto.CourseSummary(c.id, c.code, c.name, c.credits, d.name, t.firstName, t.lastName)";
+
+    private static final String FROM = "Course c left join c.department d left join c.teacher t";
+
+    private static final Map<String, Function<CourseSummary, String>> SORT_KEYS = Map.of(
+            "code", CourseSummary::code,
+            "name", CourseSummary::name
+    );
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public KeysetSlice<CourseSummary> findSummarySlice(KeysetRequest request) {
+        return KeysetQueries.fetch(entityManager, CourseSummary.class, SELECT, FROM, "c", request, "code",
+                SORT_KEYS, CourseSummary::id);
+    }
+
+    @Override
+    public int deleteEnrollments(Long courseId) {
+        return entityManager.createNativeQuery("delete from student_courses where course_id = :courseId")
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace("student_courses")
+                .setParameter("courseId", courseId)
+                .executeUpdate();
+    }
+}
@@ -1,13 +1,30 @@
 package com.sms.repository;
 
 import com.sms.entity.Department;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_CACHE_REGION;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
-public interface DepartmentRepository extends JpaRepository<Department, Long> {
+public interface DepartmentRepository extends JpaRepository<Department, Long>, DepartmentRepositoryCustom {
     Optional<Department> findByName(String name);
     boolean existsByName(String name);
+    
+    @Override
+    @QueryHints({@QueryHint(name = HINT_CACHEABLE, value = "true"), @QueryHint(name = HINT_CACHE_REGION, value = "reference-queries")})
+    List<Department> findAll();
+    
+    /** Uncached full read for bulk consumers, so they do not fill the reference query cache. */
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "500"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    Stream<Department> streamAllBy();
 }
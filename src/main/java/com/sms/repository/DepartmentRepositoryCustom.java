@@ -0,0 +1,13 @@
+package com.sms.repository;
+
+import com.sms.dto.StatisticsCount;
+import com.sms.entity.Department;
+
+import java.util.List;
+
+public interface DepartmentRepositoryCustom {
+    KeysetSlice<Department> findSlice(KeysetRequest request);
+    
+    /** Every dashboard count in one round trip: one grouped select per table, combined with union all. */
+    List<StatisticsCount> countStatistics();
+}
@@ -0,0 +1,43 @@
+package com.sms.repository;
+
+import com.sms.dto.StatisticsCount;
+import com.sms.entity.Department;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+class DepartmentRepositoryCustomImpl implements DepartmentRepositoryCustom {
+
+    private static final Map<String, Function<Department, String>> SORT_KEYS = Map.of(
+            "name", Department::getName
+    );
+
+    private static final String STATISTICS = "select 'D', d.id, d.name, cast(0 as bigint) from departments d "
+            + "union all select 'S', s.department_id, cast(null as varchar(255)), count(*) from students s group by s.department_id "
+            + "union all select 'T', t.department_id, cast(null as varchar(255)), count(*) from teachers t group by t.department_id "
+            + "union all select 'C', c.department_id, cast(null as varchar(255)), count(*) from courses c group by c.department_id "
+            + "union all select 'E', c.id, c.code || ' - ' || c.name, count(sc.student_id) from courses c "
+            + "left join student_courses sc on sc.course_id = c.id group by c.id, c.code, c.name";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public KeysetSlice<Department> findSlice(KeysetRequest request) {
+        return KeysetQueries.fetch(entityManager, Department.class, "d", "Department d", "d", request, "name",
+                SORT_KEYS, Department::getId);
+    }
+
+    @Override
+    public List<StatisticsCount> countStatistics() {
+        List<?> rows = entityManager.createNativeQuery(STATISTICS).getResultList();
+        return rows.stream()
+                .map(Object[].class::cast)
+                .map(row -> new StatisticsCount(row[0].toString(), row[1] == null ? null : ((Number) row[1]).longValue(),
+                        (String) row[2], ((Number) row[3]).longValue()))
+                .toList();
+    }
+}
@@ -0,0 +1,36 @@
+package com.sms.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position of a row in a keyset-ordered list: the value of the sort column plus the id used as tie-breaker.
+ * Encoded as an opaque URL-safe token for the next/previous links of the list pages.
+ */
+public record KeysetCursor(String key, Long id) {
+
+    public String encode() {
+        String raw = id + ":" + key;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode()}; returns null for blank or malformed tokens so that
+     * a tampered link simply restarts from the first page.
+     */
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            if (separator < 0) {
+                return null;
+            }
+            return new KeysetCursor(raw.substring(separator + 1), Long.valueOf(raw.substring(0, separator)));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
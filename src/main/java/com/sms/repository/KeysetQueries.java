@@ -0,0 +1,78 @@
+package com.sms.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Runs seek-method queries for the list pages: {@code (sort, id) > (:key, :id)} ordered by the sort column
+ * with the id as tie-breaker, fetching one extra row to find out whether another page exists.
+ * Sort columns are restricted to the non-null attributes listed by each repository.
+ */
+final class KeysetQueries {
+
+    private KeysetQueries() {
+    }
+
+    static <T> KeysetSlice<T> fetch(EntityManager entityManager, Class<T> resultType, String select, String from,
+                                    String alias, KeysetRequest request, String defaultSort,
+                                    Map<String, Function<T, String>> sortKeys, Function<T, Long> idOf) {
+        return fetch(entityManager, resultType, select, from, null, Map.of(), alias, request, defaultSort, sortKeys,
+                idOf);
+    }
+
+    /** Same as above, restricted to the rows matching {@code filter}, a JPQL condition using {@code parameters}. */
+    static <T> KeysetSlice<T> fetch(EntityManager entityManager, Class<T> resultType, String select, String from,
+                                    String filter, Map<String, ?> parameters, String alias, KeysetRequest request,
+                                    String defaultSort, Map<String, Function<T, String>> sortKeys,
+                                    Function<T, Long> idOf) {
+        if (!sortKeys.containsKey(request.sort())) {
+            request = request.withSort(defaultSort);
+        }
+        String column = alias + "." + request.sort();
+        String id = alias + ".id";
+        boolean descending = !request.isAscending() ^ request.backward();
+        String comparison = descending ? "<" : ">";
+        String order = descending ? " desc" : " asc";
+
+        StringBuilder jpql = new StringBuilder("select ").append(select).append(" from ").append(from);
+        if (filter != null) {
+            jpql.append(" where (").append(filter).append(')');
+        }
+        if (request.cursor() != null) {
+            jpql.append(filter != null ? " and (" : " where (").append(column).append(' ').append(comparison).append(" :key or (")
+                    .append(column).append(" = :key and ").append(id).append(' ').append(comparison).append(" :id))");
+        }
+        jpql.append(" order by ").append(column).append(order).append(", ").append(id).append(order);
+
+        TypedQuery<T> query = entityManager.createQuery(jpql.toString(), resultType);
+        parameters.forEach(query::setParameter);
+        if (request.cursor() != null) {
+            query.setParameter("key", request.cursor().key());
+            query.setParameter("id", request.cursor().id());
+        }
+        List<T> rows = new ArrayList<>(query.setMaxResults(request.size() + 1).getResultList());
+
+        boolean hasMore = rows.size() > request.size();
+        if (hasMore) {
+            rows.remove(rows.size() - 1);
+        }
+        if (request.backward()) {
+            Collections.reverse(rows);
+        }
+
+        Function<T, String> keyOf = sortKeys.get(request.sort());
+        KeysetCursor first = rows.isEmpty() ? null : new KeysetCursor(keyOf.apply(rows.get(0)), idOf.apply(rows.get(0)));
+        KeysetCursor last = rows.isEmpty() ? null
+                : new KeysetCursor(keyOf.apply(rows.get(rows.size() - 1)), idOf.apply(rows.get(rows.size() - 1)));
+
+        boolean hasNext = request.backward() || hasMore;
+        boolean hasPrevious = request.backward() ? hasMore : request.cursor() != null;
+        return new KeysetSlice<>(rows, request, hasNext, hasPrevious, first, last);
+    }
+}
@@ -0,0 +1,36 @@
+package com.sms.repository;
+
+import org.springframework.data.domain.Sort;
+
+/**
+ * One page request of a keyset-paginated list: sort column, direction, page size and the optional cursor
+ * to seek from. When {@code backward} is set the page ends just before the cursor instead of starting after it.
+ */
+public record KeysetRequest(String sort, Sort.Direction direction, int size, KeysetCursor cursor, boolean backward) {
+
+    public static final int MAX_SIZE = 200;
+
+    public static KeysetRequest of(String sort, String direction, int size, String after, String before) {
+        KeysetCursor beforeCursor = KeysetCursor.decode(before);
+        KeysetCursor cursor = beforeCursor != null ? beforeCursor : KeysetCursor.decode(after);
+        return new KeysetRequest(sort,
+                Sort.Direction.fromOptionalString(direction).orElse(Sort.Direction.ASC),
+                Math.max(1, Math.min(size, MAX_SIZE)),
+                cursor,
+                beforeCursor != null);
+    }
+
+    public boolean isAscending() {
+        return direction.isAscending();
+    }
+
+    /** Direction as used in the {@code dir} request parameter of the list pages. */
+    public String getDir() {
+        return isAscending() ? "asc" : "desc";
+    }
+
+    /** Same request restarted from the first page with another sort column. */
+    public KeysetRequest withSort(String sort) {
+        return new KeysetRequest(sort, direction, size, null, false);
+    }
+}
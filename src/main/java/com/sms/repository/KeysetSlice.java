@@ -0,0 +1,45 @@
+package com.sms.repository;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+
+/**
+ * {@link org.springframework.data.domain.Slice} of a keyset-paginated list. No count query is run, so the
+ * slice only knows whether there are rows on either side and the cursors to reach them.
+ */
+public class KeysetSlice<T> extends SliceImpl<T> {
+
+    private final KeysetRequest request;
+    private final boolean hasPrevious;
+    private final KeysetCursor first;
+    private final KeysetCursor last;
+
+    public KeysetSlice(List<T> content, KeysetRequest request, boolean hasNext, boolean hasPrevious,
+                       KeysetCursor first, KeysetCursor last) {
+        super(content, PageRequest.of(0, request.size(), Sort.by(request.direction(), request.sort(), "id")), hasNext);
+        this.request = request;
+        this.hasPrevious = hasPrevious;
+        this.first = first;
+        this.last = last;
+    }
+
+    @Override
+    public boolean hasPrevious() {
+        return hasPrevious;
+    }
+
+    public KeysetRequest getRequest() {
+        return request;
+    }
+
+    public String getNextCursor() {
+        return hasNext() && last != null ? last.encode() : null;
+    }
+
+    public String getPreviousCursor() {
+        return hasPrevious && first != null ? first.encode() : null;
+    }
+}
@@ -1,17 +1,59 @@
 package com.sms.repository;
 
+import com.sms.dto.StudentSummary;
 import com.sms.entity.Student;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
-public interface StudentRepository extends JpaRepository<Student, Long> {
+public interface StudentRepository extends JpaRepository<Student, Long>, StudentRepositoryCustom {
     Optional<Student> findByStudentId(String studentId);
     Optional<Student> findByEmail(String email);
     List<Student> findByDepartmentId(Long departmentId);
     boolean existsByStudentId(String studentId);
     boolean existsByEmail(String email);
+    
+    @Query("select s.studentId from Student s where s.studentId in :studentIds")
+    Set<String> findExistingStudentIds(@Param("studentIds") Collection<String> studentIds);
+    
+    @Query("select s.email from Student s where s.email in :emails")
+    Set<String> findExistingEmails(@Param("emails") Collection<String> emails);
+    
+    @EntityGraph(attributePaths = "department")
+    Optional<Student> findWithDetailsById(Long id);
+    
+    @EntityGraph(attributePaths = {"department", "user"})
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "500"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    Stream<Student> streamAllBy();
+    
+    @EntityGraph(attributePaths = {"department", "user"})
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "500"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    Stream<Student> streamByDepartmentId(Long departmentId);
+    
+    @Query("select new com.sms.dto.StudentSummary(s.id, s.studentId, s.firstName, s.lastName, s.email, d.name) "
+            + "from Student s left join s.department d")
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    Stream<StudentSummary> streamSummaries();
+    
+    @Query(value = "select course_id from student_courses where student_id = :studentId", nativeQuery = true)
+    List<Long> findCourseIdsById(Long studentId);
+    
+    /** One course id per enrollment of a student in the department, so a course appears once per student. */
+    @Query(value = "select sc.course_id from student_courses sc join students s on s.id = sc.student_id "
+            + "where s.department_id = :departmentId", nativeQuery = true)
+    List<Long> findEnrolledCourseIdsByDepartmentId(Long departmentId);
 }
@@ -0,0 +1,21 @@
+package com.sms.repository;
+
+import com.sms.dto.StudentSummary;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.Collection;
+
+public interface StudentRepositoryCustom {
+    KeysetSlice<StudentSummary> findSummarySlice(KeysetRequest request);
+    
+    KeysetSlice<StudentSummary> findRosterSlice(Long courseId, KeysetRequest request);
+    
+    Slice<StudentSummary> search(String query, Pageable pageable);
+    
+    /** Inserts the missing {@code student_courses} rows; returns how many were added. */
+    int enroll(Collection<Long> studentIds, Long courseId);
+    
+    /** Deletes the existing {@code student_courses} rows; returns how many were removed. */
+    int unenroll(Collection<Long> studentIds, Long courseId);
+}
@@ -0,0 +1,115 @@
+package com.sms.repository;
+
+import com.sms.dto.StudentSummary;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.query.NativeQuery;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+class StudentRepositoryCustomImpl implements StudentRepositoryCustom {
+
+    private static final String SELECT =
+            "new com.sms.dto.StudentSummary(s.id, s.studentId, s.firstName, s.lastName, s.email, d.name)";
+
+    private static final String FROM = "Student s left join s.department d";
+
+    // Walks the join table from the course side without initializing Course.students
+    private static final String ROSTER_FROM = "Course c join c.students s left join s.department d";
+
+    private static final Map<String, Function<StudentSummary, String>> SORT_KEYS = Map.of(
+            "studentId", StudentSummary::studentId,
+            "firstName", StudentSummary::firstName,
+            "lastName", StudentSummary::lastName,
+            "email", StudentSummary::email
+    );
+
+    private static final String SEARCH_DOCUMENT = "coalesce(s.student_id, '') || ' ' || coalesce(s.first_name, '') || ' ' "
+            + "|| coalesce(s.last_name, '') || ' ' || coalesce(s.email, '')";
+
+    private static final TextSearch.Spec<StudentSummary> SEARCH = new TextSearch.Spec<>(
+            StudentSummary.class, SELECT, FROM, List.of("s.studentId", "s.firstName", "s.lastName", "s.email"),
+            "s.lastName, s.id",
+            "s.id, s.student_id, s.first_name, s.last_name, s.email, d.name",
+            "students s left join departments d on d.id = s.department_id", SEARCH_DOCUMENT, "s.id",
+            row -> new StudentSummary((Long) row[0], (String) row[1], (String) row[2], (String) row[3],
+                    (String) row[4], (String) row[5]));
+
+    // Rows are only inserted for an existing student and course that are not enrolled yet. A concurrent
+    // enrollment of the same student can pass the same check before either commits: PostgreSQL then skips the
+    // conflicting row, other databases lock the students first so the check runs after the other commit
+    private static final String ENROLL = "insert into student_courses (student_id, course_id) "
+            + "select s.id, c.id from students s join courses c on c.id = :courseId "
+            + "where s.id in (:studentIds) and not exists "
+            + "(select 1 from student_courses sc where sc.student_id = s.id and sc.course_id = c.id)";
+
+    private static final String ENROLL_SKIPPING_CONFLICTS = ENROLL + " on conflict do nothing";
+
+    private static final String LOCK_STUDENTS = "select s.id from students s where s.id in (:studentIds) "
+            + "order by s.id for update";
+
+    private static final String UNENROLL = "delete from student_courses "
+            + "where course_id = :courseId and student_id in (:studentIds)";
+
+    private static final int MAX_IDS_PER_STATEMENT = 1000;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public KeysetSlice<StudentSummary> findSummarySlice(KeysetRequest request) {
+        return KeysetQueries.fetch(entityManager, StudentSummary.class, SELECT, FROM, "s", request, "lastName",
+                SORT_KEYS, StudentSummary::id);
+    }
+
+    @Override
+    public KeysetSlice<StudentSummary> findRosterSlice(Long courseId, KeysetRequest request) {
+        return KeysetQueries.fetch(entityManager, StudentSummary.class, SELECT, ROSTER_FROM, "c.id = :courseId",
+                Map.of("courseId", courseId), "s", request, "lastName", SORT_KEYS, StudentSummary::id);
+    }
+
+    @Override
+    public Slice<StudentSummary> search(String query, Pageable pageable) {
+        return TextSearch.search(entityManager, SEARCH, query, pageable);
+    }
+
+    @Override
+    public int enroll(Collection<Long> studentIds, Long courseId) {
+        boolean postgres = TextSearch.isPostgres(entityManager);
+        return updateJoinRows(postgres ? ENROLL_SKIPPING_CONFLICTS : ENROLL, !postgres, studentIds, courseId);
+    }
+
+    @Override
+    public int unenroll(Collection<Long> studentIds, Long courseId) {
+        return updateJoinRows(UNENROLL, false, studentIds, courseId);
+    }
+
+    private int updateJoinRows(String sql, boolean lockStudents, Collection<Long> studentIds, Long courseId) {
+        // Ascending ids keep the row lock order the same across concurrent bulk enrollments
+        List<Long> ids = new ArrayList<>(new TreeSet<>(studentIds));
+        int changed = 0;
+        for (int from = 0; from < ids.size(); from += MAX_IDS_PER_STATEMENT) {
+            List<Long> chunk = ids.subList(from, Math.min(from + MAX_IDS_PER_STATEMENT, ids.size()));
+            if (lockStudents) {
+                entityManager.createNativeQuery(LOCK_STUDENTS)
+                        .setParameter("studentIds", chunk)
+                        .getResultList();
+            }
+            changed += entityManager.createNativeQuery(sql)
+                    .unwrap(NativeQuery.class)
+                    // Only the join table changes, so Hibernate keeps the other second-level cache regions
+                    .addSynchronizedQuerySpace("student_courses")
+                    .setParameter("courseId", courseId)
+                    .setParameterList("studentIds", chunk)
+                    .executeUpdate();
+        }
+        return changed;
+    }
+}
@@ -1,17 +1,42 @@
 package com.sms.repository;
 
+import com.sms.dto.TeacherSummary;
 import com.sms.entity.Teacher;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
-public interface TeacherRepository extends JpaRepository<Teacher, Long> {
+public interface TeacherRepository extends JpaRepository<Teacher, Long>, TeacherRepositoryCustom {
     Optional<Teacher> findByEmployeeId(String employeeId);
     Optional<Teacher> findByEmail(String email);
     List<Teacher> findByDepartmentId(Long departmentId);
     boolean existsByEmployeeId(String employeeId);
     boolean existsByEmail(String email);
+    
+    @EntityGraph(attributePaths = "department")
+    Optional<Teacher> findWithDetailsById(Long id);
+    
+    @EntityGraph(attributePaths = {"department", "user"})
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "500"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    Stream<Teacher> streamAllBy();
+    
+    @EntityGraph(attributePaths = {"department", "user"})
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "500"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    Stream<Teacher> streamByDepartmentId(Long departmentId);
+    
+    @Query("select new com.sms.dto.TeacherSummary(t.id, t.employeeId, t.firstName, t.lastName, t.email, "
+            + "t.specialization, d.name) from Teacher t left join t.department d")
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    Stream<TeacherSummary> streamSummaries();
 }
@@ -0,0 +1,11 @@
+package com.sms.repository;
+
+import com.sms.dto.TeacherSummary;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+public interface TeacherRepositoryCustom {
+    KeysetSlice<TeacherSummary> findSummarySlice(KeysetRequest request);
+    
+    Slice<TeacherSummary> search(String query, Pageable pageable);
+}
@@ -0,0 +1,52 @@
+package com.sms.repository;
+
+import com.sms.dto.TeacherSummary;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+class TeacherRepositoryCustomImpl implements TeacherRepositoryCustom {
+
+    private static final String SELECT =
+            "new com.sms.dto.TeacherSummary(t.id, t.employeeId, t.firstName, t.lastName, t.email, t.specialization, d.name)";
+
+    private static final String FROM = "Teacher t left join t.department d";
+
+    private static final Map<String, Function<TeacherSummary, String>> SORT_KEYS = Map.of(
+            "employeeId", TeacherSummary::employeeId,
+            "firstName", TeacherSummary::firstName,
+            "lastName", TeacherSummary::lastName,
+            "email", TeacherSummary::email
+    );
+
+    private static final String SEARCH_DOCUMENT = "coalesce(t.employee_id, '') || ' ' || coalesce(t.first_name, '') || ' ' "
+            + "|| coalesce(t.last_name, '') || ' ' || coalesce(t.email, '') || ' ' || coalesce(t.specialization, '')";
+
+    private static final TextSearch.Spec<TeacherSummary> SEARCH = new TextSearch.Spec<>(
+            TeacherSummary.class, SELECT, FROM,
+            List.of("t.employeeId", "t.firstName", "t.lastName", "t.email", "t.specialization"),
+            "t.lastName, t.id",
+            "t.id, t.employee_id, t.first_name, t.last_name, t.email, t.specialization, d.name",
+            "teachers t left join departments d on d.id = t.department_id", SEARCH_DOCUMENT, "t.id",
+            row -> new TeacherSummary((Long) row[0], (String) row[1], (String) row[2], (String) row[3],
+                    (String) row[4], (String) row[5], (String) row[6]));
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public KeysetSlice<TeacherSummary> findSummarySlice(KeysetRequest request) {
+        return KeysetQueries.fetch(entityManager, TeacherSummary.class, SELECT, FROM, "t", request, "lastName",
+                SORT_KEYS, TeacherSummary::id);
+    }
+
+    @Override
+    public Slice<TeacherSummary> search(String query, Pageable pageable) {
+        return TextSearch.search(entityManager, SEARCH, query, pageable);
+    }
+}
@@ -0,0 +1,135 @@
+package com.sms.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * Ranked, case-insensitive search for the search page. The query is split into lower-case letter/digit tokens.
+ *
+ * <p>On PostgreSQL a row matches when its {@code simple} tsvector matches every token as a prefix, or when the
+ * query is trigram-similar to a word sequence of the row (typos). Both conditions are served by the GIN
+ * expression indexes in {@code db/search-indexes.sql}; rows are ordered by {@code ts_rank} plus word similarity.
+ * Other databases (H2 in tests) fall back to {@code lower(column) like '%token%'} for every token, ranking exact
+ * matches before prefix matches before substring matches.
+ */
+final class TextSearch {
+
+    private static final int MAX_TOKENS = 8;
+
+    /**
+     * What to search for one entity.
+     *
+     * @param resultType     projection returned by the JPQL fallback
+     * @param jpqlSelect     JPQL select expression producing {@code resultType}
+     * @param jpqlFrom       JPQL from clause
+     * @param jpqlColumns    lower-cased and compared with each token in the fallback
+     * @param jpqlOrder      tie-breaking order after the rank, ending with the id
+     * @param sqlSelect      native select list, mapped by {@code rowMapper}
+     * @param sqlFrom        native from clause
+     * @param sqlDocument    native text expression; must match the indexed expression exactly
+     * @param sqlId          native id column, the final tie-breaker
+     * @param rowMapper      maps a native row to the projection
+     */
+    record Spec<T>(Class<T> resultType, String jpqlSelect, String jpqlFrom, List<String> jpqlColumns,
+                   String jpqlOrder, String sqlSelect, String sqlFrom, String sqlDocument, String sqlId,
+                   Function<Object[], T> rowMapper) {
+    }
+
+    private TextSearch() {
+    }
+
+    static <T> Slice<T> search(EntityManager entityManager, Spec<T> spec, String text, Pageable pageable) {
+        List<String> tokens = tokens(text);
+        if (tokens.isEmpty()) {
+            return new SliceImpl<>(List.of(), pageable, false);
+        }
+        List<T> rows = isPostgres(entityManager)
+                ? searchPostgres(entityManager, spec, tokens, pageable)
+                : searchFallback(entityManager, spec, tokens, pageable);
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        if (hasNext) {
+            rows.remove(rows.size() - 1);
+        }
+        return new SliceImpl<>(rows, pageable, hasNext);
+    }
+
+    static List<String> tokens(String text) {
+        if (text == null) {
+            return List.of();
+        }
+        return Arrays.stream(text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(token -> !token.isEmpty())
+                .distinct()
+                .limit(MAX_TOKENS)
+                .toList();
+    }
+
+    private static <T> List<T> searchPostgres(EntityManager entityManager, Spec<T> spec, List<String> tokens,
+                                              Pageable pageable) {
+        String vector = "to_tsvector('simple', " + spec.sqlDocument() + ")";
+        String tsQuery = "to_tsquery('simple', :tsquery)";
+        String lowerDocument = "lower(" + spec.sqlDocument() + ")";
+        String sql = "select " + spec.sqlSelect() + " from " + spec.sqlFrom()
+                + " where " + vector + " @@ " + tsQuery + " or :term <% " + lowerDocument
+                + " order by ts_rank(" + vector + ", " + tsQuery + ") + word_similarity(:term, " + lowerDocument
+                + ") desc, " + spec.sqlId()
+                + " offset :offset limit :limit";
+        Query query = entityManager.createNativeQuery(sql)
+                .setParameter("tsquery", String.join(" & ", tokens.stream().map(token -> token + ":*").toList()))
+                .setParameter("term", String.join(" ", tokens))
+                .setParameter("offset", pageable.getOffset())
+                .setParameter("limit", pageable.getPageSize() + 1);
+        List<T> rows = new ArrayList<>();
+        for (Object row : query.getResultList()) {
+            rows.add(spec.rowMapper().apply((Object[]) row));
+        }
+        return rows;
+    }
+
+    private static <T> List<T> searchFallback(EntityManager entityManager, Spec<T> spec, List<String> tokens,
+                                              Pageable pageable) {
+        StringBuilder where = new StringBuilder();
+        for (int i = 0; i < tokens.size(); i++) {
+            where.append(i == 0 ? "" : " and ").append(anyColumn(spec, "like :contains" + i));
+        }
+        String rank = "case when " + anyColumn(spec, "= :exact") + " then 0 when " + anyColumn(spec, "like :prefix")
+                + " then 1 else 2 end";
+        String jpql = "select " + spec.jpqlSelect() + " from " + spec.jpqlFrom() + " where " + where
+                + " order by " + rank + ", " + spec.jpqlOrder();
+
+        TypedQuery<T> query = entityManager.createQuery(jpql, spec.resultType());
+        for (int i = 0; i < tokens.size(); i++) {
+            query.setParameter("contains" + i, "%" + tokens.get(i) + "%");
+        }
+        query.setParameter("exact", tokens.get(0));
+        query.setParameter("prefix", tokens.get(0) + "%");
+        return new ArrayList<>(query.setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize() + 1)
+                .getResultList());
+    }
+
+    private static String anyColumn(Spec<?> spec, String condition) {
+        return spec.jpqlColumns().stream()
+                .map(column -> "lower(" + column + ") " + condition)
+                .reduce((a, b) -> a + " or " + b)
+                .map(any -> "(" + any + ")")
+                .orElseThrow();
+    }
+
+    static boolean isPostgres(EntityManager entityManager) {
+        return entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect() instanceof PostgreSQLDialect;
+    }
+}
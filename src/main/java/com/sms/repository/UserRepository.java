@@ -2,12 +2,19 @@ package com.sms.repository;
 
 import com.sms.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUsername(String username);
     boolean existsByUsername(String username);
+    
+    @Query("select u.username from User u where u.username in :usernames")
+    Set<String> findExistingUsernames(@Param("usernames") Collection<String> usernames);
 }
@@ -0,0 +1,19 @@
+package com.sms.search;
+
+/** Kinds of entities held by the {@link SearchIndex}, with the page each hit links to. */
+public enum DocumentType {
+    STUDENT("/students/%d"),
+    TEACHER("/teachers/%d"),
+    COURSE("/courses/%d"),
+    DEPARTMENT("/departments/%d/edit");
+
+    private final String urlPattern;
+
+    DocumentType(String urlPattern) {
+        this.urlPattern = urlPattern;
+    }
+
+    public String url(long id) {
+        return urlPattern.formatted(id);
+    }
+}
@@ -0,0 +1,52 @@
+package com.sms.search;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Document numbers containing one term, kept as a sorted primitive array. Documents are numbered in insertion
+ * order, so adding is an append; compaction drops removed documents and renumbers the rest with
+ * {@link #renumber(int[])}.
+ */
+final class PostingList {
+
+    private int[] docs = new int[1];
+    private int size;
+
+    void add(int doc) {
+        if (size > 0 && docs[size - 1] == doc) {
+            return;
+        }
+        if (size == docs.length) {
+            docs = Arrays.copyOf(docs, size + (size >> 1) + 1);
+        }
+        docs[size++] = doc;
+    }
+
+    void addTo(BitSet target) {
+        for (int i = 0; i < size; i++) {
+            target.set(docs[i]);
+        }
+    }
+
+    /**
+     * Maps every document to {@code renumbered[doc]}, dropping those mapped to -1, and trims the array; returns
+     * the remaining size. The mapping must keep the order of the documents.
+     */
+    int renumber(int[] renumbered) {
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            int doc = renumbered[docs[i]];
+            if (doc >= 0) {
+                docs[kept++] = doc;
+            }
+        }
+        size = kept;
+        docs = Arrays.copyOf(docs, Math.max(1, kept));
+        return kept;
+    }
+
+    int size() {
+        return size;
+    }
+}
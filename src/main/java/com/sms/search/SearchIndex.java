@@ -0,0 +1,260 @@
+package com.sms.search;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over students, teachers, courses and departments for the navbar search and the
+ * form lookups. Every searchable field is split into lower-case letter/digit tokens; each token maps to a
+ * {@link PostingList} of document numbers.
+ * A query matches documents containing every query token, either as a whole token or as a prefix; documents
+ * matching all tokens exactly come first.
+ *
+ * <p>Documents are numbered in insertion order. Replacing or removing a document marks the old number dead;
+ * once dead numbers make up a quarter of the index, the live documents are renumbered densely (keeping their
+ * order) and the posting lists remapped, so memory follows the number of documents rather than of writes.
+ * Reads share a lock and writes take it exclusively.
+ */
+@Component
+public class SearchIndex {
+
+    public static final int MAX_RESULTS = 50;
+    private static final int MIN_DEAD_TO_COMPACT = 1024;
+    private static final int MIN_CAPACITY = 1024;
+    private static final Set<DocumentType> GLOBAL =
+            EnumSet.of(DocumentType.STUDENT, DocumentType.TEACHER, DocumentType.COURSE);
+
+    public record Hit(DocumentType type, long id, String label, String url) {
+    }
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final TreeMap<String, PostingList> terms = new TreeMap<>();
+    private final Map<Long, Integer> docsByKey = new HashMap<>();
+    private final Map<DocumentType, BitSet> liveByType = new EnumMap<>(DocumentType.class);
+    private BitSet live = new BitSet();
+    private DocumentType[] types = new DocumentType[MIN_CAPACITY];
+    private long[] ids = new long[MIN_CAPACITY];
+    private String[] labels = new String[MIN_CAPACITY];
+    private int docCount;
+    private int deadCount;
+
+    /** Adds the document, replacing any previous version with the same type and id. */
+    public void put(DocumentType type, long id, String label, String... fields) {
+        lock.writeLock().lock();
+        try {
+            Integer previous = docsByKey.get(key(type, id));
+            if (previous != null) {
+                kill(previous);
+            }
+            int doc = docCount++;
+            if (doc == ids.length) {
+                resize(doc + (doc >> 1));
+            }
+            types[doc] = type;
+            ids[doc] = id;
+            labels[doc] = label;
+            live.set(doc);
+            liveByType.computeIfAbsent(type, t -> new BitSet()).set(doc);
+            docsByKey.put(key(type, id), doc);
+            for (String field : fields) {
+                for (String token : tokens(field)) {
+                    terms.computeIfAbsent(token, t -> new PostingList()).add(doc);
+                }
+            }
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(DocumentType type, long id) {
+        lock.writeLock().lock();
+        try {
+            Integer doc = docsByKey.remove(key(type, id));
+            if (doc != null) {
+                kill(doc);
+                compactIfNeeded();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Searches the entities that have a detail page: students, teachers and courses. */
+    public List<Hit> search(String query, int limit) {
+        return search(query, GLOBAL, limit);
+    }
+
+    public List<Hit> search(String query, Set<DocumentType> documentTypes, int limit) {
+        List<String> queryTokens = tokens(query);
+        int max = Math.max(1, Math.min(limit, MAX_RESULTS));
+        if (queryTokens.isEmpty()) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            BitSet exact = null;
+            BitSet matching = null;
+            for (String token : queryTokens) {
+                BitSet tokenExact = new BitSet();
+                PostingList postings = terms.get(token);
+                if (postings != null) {
+                    postings.addTo(tokenExact);
+                }
+                BitSet tokenMatching = new BitSet();
+                for (PostingList prefixed : withPrefix(token).values()) {
+                    prefixed.addTo(tokenMatching);
+                }
+                exact = and(exact, tokenExact);
+                matching = and(matching, tokenMatching);
+                if (matching.isEmpty()) {
+                    return List.of();
+                }
+            }
+            matching.and(live(documentTypes));
+            exact.and(matching);
+            matching.andNot(exact);
+
+            List<Hit> hits = new ArrayList<>(max);
+            collect(exact, hits, max);
+            collect(matching, hits, max);
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docsByKey.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Document numbers in use, live or dead; compaction brings this back down to {@link #size()}. */
+    int slotCount() {
+        lock.readLock().lock();
+        try {
+            return docCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return terms.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static List<String> tokens(String text) {
+        if (text == null || text.isEmpty()) {
+            return List.of();
+        }
+        return Arrays.stream(text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(token -> !token.isEmpty())
+                .distinct()
+                .toList();
+    }
+
+    private NavigableMap<String, PostingList> withPrefix(String prefix) {
+        return terms.subMap(prefix, true, prefix + Character.MAX_VALUE, true);
+    }
+
+    private BitSet live(Set<DocumentType> documentTypes) {
+        BitSet docs = new BitSet();
+        for (DocumentType type : documentTypes) {
+            BitSet ofType = liveByType.get(type);
+            if (ofType != null) {
+                docs.or(ofType);
+            }
+        }
+        return docs;
+    }
+
+    private void collect(BitSet docs, List<Hit> hits, int max) {
+        for (int doc = docs.nextSetBit(0); doc >= 0 && hits.size() < max; doc = docs.nextSetBit(doc + 1)) {
+            hits.add(new Hit(types[doc], ids[doc], labels[doc], types[doc].url(ids[doc])));
+        }
+    }
+
+    private void kill(int doc) {
+        live.clear(doc);
+        liveByType.get(types[doc]).clear(doc);
+        labels[doc] = null;
+        deadCount++;
+    }
+
+    private void compactIfNeeded() {
+        if (deadCount < MIN_DEAD_TO_COMPACT || deadCount < docsByKey.size() / 4) {
+            return;
+        }
+        int[] renumbered = new int[docCount];
+        int next = 0;
+        BitSet compacted = new BitSet(docsByKey.size());
+        liveByType.clear();
+        for (int doc = 0; doc < docCount; doc++) {
+            if (!live.get(doc)) {
+                renumbered[doc] = -1;
+                continue;
+            }
+            renumbered[doc] = next;
+            types[next] = types[doc];
+            ids[next] = ids[doc];
+            labels[next] = labels[doc];
+            compacted.set(next);
+            liveByType.computeIfAbsent(types[next], t -> new BitSet()).set(next);
+            next++;
+        }
+        Arrays.fill(types, next, docCount, null);
+        Arrays.fill(labels, next, docCount, null);
+        resize(Math.max(MIN_CAPACITY, next + (next >> 1)));
+        live = compacted;
+        docsByKey.replaceAll((key, doc) -> renumbered[doc]);
+        Iterator<PostingList> postings = terms.values().iterator();
+        while (postings.hasNext()) {
+            if (postings.next().renumber(renumbered) == 0) {
+                postings.remove();
+            }
+        }
+        docCount = next;
+        deadCount = 0;
+    }
+
+    private void resize(int capacity) {
+        types = Arrays.copyOf(types, capacity);
+        ids = Arrays.copyOf(ids, capacity);
+        labels = Arrays.copyOf(labels, capacity);
+    }
+
+    private static BitSet and(BitSet accumulated, BitSet next) {
+        if (accumulated == null) {
+            return next;
+        }
+        accumulated.and(next);
+        return accumulated;
+    }
+
+    private static long key(DocumentType type, long id) {
+        return ((long) type.ordinal() << 56) | id;
+    }
+}
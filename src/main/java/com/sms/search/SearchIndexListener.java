@@ -0,0 +1,120 @@
+package com.sms.search;
+
+import com.sms.dto.CourseSummary;
+import com.sms.dto.StudentSummary;
+import com.sms.dto.TeacherSummary;
+import com.sms.entity.Course;
+import com.sms.entity.Department;
+import com.sms.entity.Student;
+import com.sms.entity.Teacher;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JPA entity listener feeding writes to students, teachers, courses and departments into the {@link SearchIndex}. Changes are
+ * collected per transaction and applied only after it commits, so rolled-back writes never become searchable.
+ * Also converts the list projections used to build the index at startup.
+ */
+@Component
+@RequiredArgsConstructor
+public class SearchIndexListener {
+
+    private final SearchIndex searchIndex;
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Object entity) {
+        if (entity instanceof Student student) {
+            apply(() -> searchIndex.put(DocumentType.STUDENT, student.getId(),
+                    personLabel(student.getFirstName(), student.getLastName(), student.getStudentId()),
+                    student.getStudentId(), student.getFirstName(), student.getLastName(), student.getEmail()));
+        } else if (entity instanceof Teacher teacher) {
+            apply(() -> searchIndex.put(DocumentType.TEACHER, teacher.getId(),
+                    personLabel(teacher.getFirstName(), teacher.getLastName(), teacher.getEmployeeId()),
+                    teacher.getEmployeeId(), teacher.getFirstName(), teacher.getLastName(), teacher.getEmail(),
+                    teacher.getSpecialization()));
+        } else if (entity instanceof Course course) {
+            apply(() -> searchIndex.put(DocumentType.COURSE, course.getId(),
+                    courseLabel(course.getCode(), course.getName()), course.getCode(), course.getName()));
+        } else if (entity instanceof Department department) {
+            apply(() -> index(department));
+        }
+    }
+
+    @PostRemove
+    public void onRemove(Object entity) {
+        if (entity instanceof Student student) {
+            apply(() -> searchIndex.remove(DocumentType.STUDENT, student.getId()));
+        } else if (entity instanceof Teacher teacher) {
+            apply(() -> searchIndex.remove(DocumentType.TEACHER, teacher.getId()));
+        } else if (entity instanceof Course course) {
+            apply(() -> searchIndex.remove(DocumentType.COURSE, course.getId()));
+        } else if (entity instanceof Department department) {
+            apply(() -> searchIndex.remove(DocumentType.DEPARTMENT, department.getId()));
+        }
+    }
+
+    void index(StudentSummary student) {
+        searchIndex.put(DocumentType.STUDENT, student.id(),
+                personLabel(student.firstName(), student.lastName(), student.studentId()),
+                student.studentId(), student.firstName(), student.lastName(), student.email());
+    }
+
+    void index(TeacherSummary teacher) {
+        searchIndex.put(DocumentType.TEACHER, teacher.id(),
+                personLabel(teacher.firstName(), teacher.lastName(), teacher.employeeId()),
+                teacher.employeeId(), teacher.firstName(), teacher.lastName(), teacher.email(),
+                teacher.specialization());
+    }
+
+    void index(CourseSummary course) {
+        searchIndex.put(DocumentType.COURSE, course.id(), courseLabel(course.code(), course.name()),
+                course.code(), course.name());
+    }
+
+    void index(Department department) {
+        searchIndex.put(DocumentType.DEPARTMENT, department.getId(), department.getName(), department.getName());
+    }
+
+    private void apply(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        List<Runnable> pending = (List<Runnable>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            List<Runnable> changes = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, changes);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    changes.forEach(Runnable::run);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(SearchIndexListener.this);
+                }
+            });
+            pending = changes;
+        }
+        pending.add(change);
+    }
+
+    private static String personLabel(String firstName, String lastName, String identifier) {
+        return firstName + " " + lastName + " (" + identifier + ")";
+    }
+
+    private static String courseLabel(String code, String name) {
+        return code + " - " + name;
+    }
+}
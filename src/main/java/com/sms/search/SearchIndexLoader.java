@@ -0,0 +1,57 @@
+package com.sms.search;
+
+import com.sms.dto.CourseSummary;
+import com.sms.dto.StudentSummary;
+import com.sms.dto.TeacherSummary;
+import com.sms.entity.Department;
+import com.sms.repository.CourseRepository;
+import com.sms.repository.DepartmentRepository;
+import com.sms.repository.StudentRepository;
+import com.sms.repository.TeacherRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.stream.Stream;
+
+/** Fills the {@link SearchIndex} from the database at startup by streaming the list projections and departments. */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchIndexLoader implements ApplicationRunner {
+
+    private final StudentRepository studentRepository;
+    private final TeacherRepository teacherRepository;
+    private final CourseRepository courseRepository;
+    private final DepartmentRepository departmentRepository;
+    private final SearchIndexListener searchIndexListener;
+    private final SearchIndex searchIndex;
+    private final PlatformTransactionManager transactionManager;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.nanoTime();
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readOnly.executeWithoutResult(status -> {
+            try (Stream<StudentSummary> students = studentRepository.streamSummaries()) {
+                students.forEach(searchIndexListener::index);
+            }
+            try (Stream<TeacherSummary> teachers = teacherRepository.streamSummaries()) {
+                teachers.forEach(searchIndexListener::index);
+            }
+            try (Stream<CourseSummary> courses = courseRepository.streamSummaries()) {
+                courses.forEach(searchIndexListener::index);
+            }
+            try (Stream<Department> departments = departmentRepository.streamAllBy()) {
+                departments.forEach(searchIndexListener::index);
+            }
+        });
+        log.info("Search index built with {} documents and {} terms in {} ms", searchIndex.size(),
+                searchIndex.termCount(), (System.nanoTime() - start) / 1_000_000);
+    }
+}
@@ -0,0 +1,103 @@
+package com.sms.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs password verification on a small fixed pool with a short queue, so a login storm can only use as
+ * many cores as the pool has threads. When the queue is full the login fails fast with
+ * {@link LoginCapacityExceededException} instead of piling up. Encoding is not limited; bulk hashing has
+ * its own pool.
+ */
+public class AdmissionControlledPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final Timer verificationTimer;
+    private final Timer waitTimer;
+    private final Counter rejected;
+
+    public AdmissionControlledPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity,
+                                              MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-verify-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.verificationTimer = Timer.builder("sms.login.verification")
+                .description("Time to verify one password")
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("sms.login.verification.wait")
+                .description("Time a verification waited for a free thread")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("sms.login.verification.rejected")
+                .description("Logins turned away because verification was saturated")
+                .register(meterRegistry);
+        Gauge.builder("sms.login.verification.queue", executor, e -> e.getQueue().size())
+                .description("Verifications waiting for a thread")
+                .register(meterRegistry);
+        Gauge.builder("sms.login.verification.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Verification threads currently busy")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return delegate.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        long submitted = System.nanoTime();
+        Future<Boolean> result;
+        try {
+            result = executor.submit(() -> {
+                waitTimer.record(System.nanoTime() - submitted, TimeUnit.NANOSECONDS);
+                return verificationTimer.record(() -> delegate.matches(rawPassword, encodedPassword));
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new LoginCapacityExceededException("Too many logins in progress, please try again");
+        }
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new AuthenticationServiceException("Interrupted while verifying password", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new AuthenticationServiceException("Password verification failed", e.getCause());
+        }
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,14 @@
+package com.sms.security;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+/**
+ * Thrown when too many password verifications are already running or queued. The login is not judged
+ * either way; the user is asked to try again.
+ */
+public class LoginCapacityExceededException extends AuthenticationServiceException {
+
+    public LoginCapacityExceededException(String message) {
+        super(message);
+    }
+}
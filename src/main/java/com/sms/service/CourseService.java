@@ -1,7 +1,14 @@
 package com.sms.service;
 
+import com.sms.dto.CourseEnrollmentCount;
+import com.sms.dto.CourseSummary;
 import com.sms.entity.Course;
+import com.sms.entity.Department;
 import com.sms.repository.CourseRepository;
+import com.sms.repository.KeysetRequest;
+import com.sms.repository.KeysetSlice;
+import com.sms.repository.TeacherRepository;
+import com.sms.service.DashboardStatistics.Counter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -14,36 +21,84 @@ import java.util.List;
 public class CourseService {
     
     private final CourseRepository courseRepository;
+    private final TeacherRepository teacherRepository;
+    private final DashboardStatistics dashboardStatistics;
     
     public Course createCourse(Course course) {
-        return courseRepository.save(course);
+        attachTeacher(course);
+        Course saved = courseRepository.save(course);
+        dashboardStatistics.added(Counter.COURSES, departmentId(course.getDepartment()));
+        dashboardStatistics.courseSaved(saved.getId(), course.getCode(), course.getName());
+        return saved;
     }
     
+    @Transactional(readOnly = true)
     public List<Course> getAllCourses() {
         return courseRepository.findAll();
     }
     
+    @Transactional(readOnly = true)
+    public KeysetSlice<CourseSummary> getCourseSlice(KeysetRequest request) {
+        return courseRepository.findSummarySlice(request);
+    }
+    
+    @Transactional(readOnly = true)
     public Course getCourseById(Long id) {
-        return courseRepository.findById(id).orElse(null);
+        return courseRepository.findWithDetailsById(id).orElse(null);
     }
     
+    @Transactional(readOnly = true)
     public List<Course> getCoursesByDepartment(Long departmentId) {
         return courseRepository.findByDepartmentId(departmentId);
     }
     
+    @Transactional(readOnly = true)
     public List<Course> getCoursesByTeacher(Long teacherId) {
         return courseRepository.findByTeacherId(teacherId);
     }
     
+    @Transactional(readOnly = true)
+    public List<CourseEnrollmentCount> getEnrollmentCountsByTeacher(Long teacherId) {
+        return courseRepository.findEnrollmentCountsByTeacherId(teacherId);
+    }
+    
+    @Transactional(readOnly = true)
+    public long countEnrolledStudents(Long courseId) {
+        return courseRepository.countEnrolledStudents(courseId);
+    }
+    
     public Course updateCourse(Long id, Course course) {
-        if (courseRepository.existsById(id)) {
+        Course existing = courseRepository.findById(id).orElse(null);
+        if (existing != null) {
+            dashboardStatistics.moved(Counter.COURSES, departmentId(existing.getDepartment()),
+                    departmentId(course.getDepartment()));
+            dashboardStatistics.courseSaved(id, course.getCode(), course.getName());
             course.setId(id);
+            attachTeacher(course);
             return courseRepository.save(course);
         }
         return null;
     }
     
     public void deleteCourse(Long id) {
+        courseRepository.findById(id).ifPresent(existing -> {
+            dashboardStatistics.removed(Counter.COURSES, departmentId(existing.getDepartment()));
+            dashboardStatistics.courseDeleted(id);
+        });
+        // Course.students is the inverse side, so Hibernate would leave the join rows behind
+        courseRepository.deleteEnrollments(id);
         courseRepository.deleteById(id);
     }
+    
+    /** Forms bind the teacher as an id-only instance; Teacher is versioned, so link the managed one instead. */
+    private void attachTeacher(Course course) {
+        if (course.getTeacher() != null) {
+            Long teacherId = course.getTeacher().getId();
+            course.setTeacher(teacherId != null ? teacherRepository.getReferenceById(teacherId) : null);
+        }
+    }
+    
+    private static Long departmentId(Department department) {
+        return department != null ? department.getId() : null;
+    }
 }
@@ -0,0 +1,232 @@
+package com.sms.service;
+
+import com.sms.dto.StatisticsCount;
+import com.sms.repository.DepartmentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Dashboard counts kept in memory: students, teachers and courses per department, and enrollments per course.
+ *
+ * <p>The counts are loaded at startup by a single aggregate query. After that the services report every write
+ * here and the counters are adjusted once the transaction commits, so a page view only reads memory. Writes
+ * that bypass the services, or that race with a reload, can leave the counters off; a periodic reconciliation
+ * reruns the query and replaces them.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DashboardStatistics implements ApplicationRunner {
+
+    public static final int TOP_COURSES = 10;
+
+    public enum Counter {
+        STUDENTS, TEACHERS, COURSES
+    }
+
+    public record DepartmentRow(Long id, String name, long students, long teachers, long courses) {
+    }
+
+    public record CourseRow(Long id, String label, long enrolled) {
+    }
+
+    public record Snapshot(long students, long teachers, long courses, long departmentCount, long enrollments,
+                           List<DepartmentRow> departments, List<CourseRow> topCourses) {
+    }
+
+    // Counts of rows without a department; department ids come from a sequence starting at 1
+    private static final long NO_DEPARTMENT = 0L;
+
+    private static final class DepartmentCounts {
+        private volatile String name;
+        private final AtomicLong[] counts = {new AtomicLong(), new AtomicLong(), new AtomicLong()};
+
+        private AtomicLong get(Counter counter) {
+            return counts[counter.ordinal()];
+        }
+    }
+
+    private static final class CourseCounts {
+        private volatile String label;
+        private final AtomicLong enrolled = new AtomicLong();
+    }
+
+    private record State(Map<Long, DepartmentCounts> departments, Map<Long, CourseCounts> courses) {
+        State() {
+            this(new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+        }
+    }
+
+    private final DepartmentRepository departmentRepository;
+
+    private volatile State state = new State();
+    private volatile boolean loaded;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        reconcile();
+    }
+
+    /** Reloads every count from the database and reports how many counters had drifted. */
+    @Scheduled(fixedDelayString = "${sms.dashboard.reconcile-interval:PT5M}",
+               initialDelayString = "${sms.dashboard.reconcile-interval:PT5M}")
+    public void reconcile() {
+        long start = System.nanoTime();
+        State fresh = new State();
+        for (StatisticsCount row : departmentRepository.countStatistics()) {
+            switch (row.kind()) {
+                case "D" -> department(fresh, row.id()).name = row.label();
+                case "S" -> department(fresh, row.id()).get(Counter.STUDENTS).set(row.count());
+                case "T" -> department(fresh, row.id()).get(Counter.TEACHERS).set(row.count());
+                case "C" -> department(fresh, row.id()).get(Counter.COURSES).set(row.count());
+                case "E" -> {
+                    CourseCounts course = course(fresh, row.id());
+                    course.label = row.label();
+                    course.enrolled.set(row.count());
+                }
+                default -> throw new IllegalStateException("Unknown statistics row: " + row.kind());
+            }
+        }
+        int drifted = drift(state, fresh);
+        state = fresh;
+        if (loaded && drifted > 0) {
+            log.info("Dashboard statistics reconciled: {} counters corrected", drifted);
+        }
+        loaded = true;
+        log.debug("Dashboard statistics loaded in {} ms", (System.nanoTime() - start) / 1_000_000);
+    }
+
+    public Snapshot snapshot() {
+        State current = state;
+        List<DepartmentRow> departments = new ArrayList<>(current.departments().size());
+        long students = 0;
+        long teachers = 0;
+        long courses = 0;
+        long departmentCount = 0;
+        for (Map.Entry<Long, DepartmentCounts> entry : current.departments().entrySet()) {
+            DepartmentCounts counts = entry.getValue();
+            DepartmentRow row = new DepartmentRow(entry.getKey() == NO_DEPARTMENT ? null : entry.getKey(), counts.name,
+                    counts.get(Counter.STUDENTS).get(), counts.get(Counter.TEACHERS).get(),
+                    counts.get(Counter.COURSES).get());
+            students += row.students();
+            teachers += row.teachers();
+            courses += row.courses();
+            if (row.id() != null) {
+                departmentCount++;
+            }
+            if (row.id() != null || row.students() + row.teachers() + row.courses() > 0) {
+                departments.add(row);
+            }
+        }
+        departments.sort(Comparator.comparing(DepartmentRow::name, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER)));
+
+        Comparator<CourseRow> byEnrollment = Comparator.comparingLong(CourseRow::enrolled)
+                .thenComparing(CourseRow::id, Comparator.reverseOrder());
+        PriorityQueue<CourseRow> top = new PriorityQueue<>(TOP_COURSES + 1, byEnrollment);
+        long enrollments = 0;
+        for (Map.Entry<Long, CourseCounts> entry : current.courses().entrySet()) {
+            CourseRow row = new CourseRow(entry.getKey(), entry.getValue().label, entry.getValue().enrolled.get());
+            enrollments += row.enrolled();
+            top.add(row);
+            if (top.size() > TOP_COURSES) {
+                top.poll();
+            }
+        }
+        List<CourseRow> topCourses = new ArrayList<>(top);
+        topCourses.sort(byEnrollment.reversed());
+        return new Snapshot(students, teachers, courses, departmentCount, enrollments, departments, topCourses);
+    }
+
+    public void added(Counter counter, Long departmentId) {
+        afterCommit(() -> department(state, departmentId).get(counter).incrementAndGet());
+    }
+
+    public void removed(Counter counter, Long departmentId) {
+        afterCommit(() -> department(state, departmentId).get(counter).decrementAndGet());
+    }
+
+    public void moved(Counter counter, Long fromDepartmentId, Long toDepartmentId) {
+        if (!Objects.equals(fromDepartmentId, toDepartmentId)) {
+            removed(counter, fromDepartmentId);
+            added(counter, toDepartmentId);
+        }
+    }
+
+    public void departmentSaved(Long id, String name) {
+        afterCommit(() -> department(state, id).name = name);
+    }
+
+    public void departmentDeleted(Long id) {
+        afterCommit(() -> state.departments().remove(id));
+    }
+
+    public void courseSaved(Long id, String code, String name) {
+        afterCommit(() -> course(state, id).label = code + " - " + name);
+    }
+
+    public void courseDeleted(Long id) {
+        afterCommit(() -> state.courses().remove(id));
+    }
+
+    public void enrollmentsChanged(Long courseId, long delta) {
+        if (delta != 0) {
+            afterCommit(() -> course(state, courseId).enrolled.addAndGet(delta));
+        }
+    }
+
+    private static DepartmentCounts department(State state, Long id) {
+        return state.departments().computeIfAbsent(id == null ? NO_DEPARTMENT : id, key -> new DepartmentCounts());
+    }
+
+    private static CourseCounts course(State state, Long id) {
+        return state.courses().computeIfAbsent(id, key -> new CourseCounts());
+    }
+
+    private static int drift(State previous, State loaded) {
+        int drifted = 0;
+        for (Map.Entry<Long, DepartmentCounts> entry : loaded.departments().entrySet()) {
+            DepartmentCounts before = previous.departments().get(entry.getKey());
+            for (Counter counter : Counter.values()) {
+                long was = before == null ? 0 : before.get(counter).get();
+                if (was != entry.getValue().get(counter).get()) {
+                    drifted++;
+                }
+            }
+        }
+        for (Map.Entry<Long, CourseCounts> entry : loaded.courses().entrySet()) {
+            CourseCounts before = previous.courses().get(entry.getKey());
+            if ((before == null ? 0 : before.enrolled.get()) != entry.getValue().enrolled.get()) {
+                drifted++;
+            }
+        }
+        return drifted;
+    }
+
+    private static void afterCommit(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+}
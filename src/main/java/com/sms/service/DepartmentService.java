@@ -1,12 +1,18 @@
 package com.sms.service;
 
 import com.sms.entity.Department;
+import com.sms.repository.CourseRepository;
 import com.sms.repository.DepartmentRepository;
+import com.sms.repository.KeysetRequest;
+import com.sms.repository.KeysetSlice;
+import com.sms.repository.StudentRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -14,15 +20,32 @@ import java.util.List;
 public class DepartmentService {
     
     private final DepartmentRepository departmentRepository;
+    private final CourseRepository courseRepository;
+    private final StudentRepository studentRepository;
+    private final DashboardStatistics dashboardStatistics;
     
     public Department createDepartment(Department department) {
-        return departmentRepository.save(department);
+        Department saved = departmentRepository.save(department);
+        dashboardStatistics.departmentSaved(saved.getId(), department.getName());
+        return saved;
     }
     
+    @Transactional(readOnly = true)
     public List<Department> getAllDepartments() {
         return departmentRepository.findAll();
     }
     
+    @Transactional(readOnly = true)
+    public long countDepartments() {
+        return departmentRepository.count();
+    }
+    
+    @Transactional(readOnly = true)
+    public KeysetSlice<Department> getDepartmentSlice(KeysetRequest request) {
+        return departmentRepository.findSlice(request);
+    }
+    
+    @Transactional(readOnly = true)
     public Department getDepartmentById(Long id) {
         return departmentRepository.findById(id).orElse(null);
     }
@@ -30,12 +53,25 @@ public class DepartmentService {
     public Department updateDepartment(Long id, Department department) {
         if (departmentRepository.existsById(id)) {
             department.setId(id);
+            dashboardStatistics.departmentSaved(id, department.getName());
             return departmentRepository.save(department);
         }
         return null;
     }
     
+    /**
+     * Deleting a department cascades to its courses, students and teachers. The counts of the deleted courses
+     * go with them; enrollments of the deleted students in other departments' courses are subtracted.
+     */
     public void deleteDepartment(Long id) {
+        Set<Long> courseIds = new HashSet<>(courseRepository.findIdsByDepartmentId(id));
+        for (Long courseId : studentRepository.findEnrolledCourseIdsByDepartmentId(id)) {
+            if (!courseIds.contains(courseId)) {
+                dashboardStatistics.enrollmentsChanged(courseId, -1);
+            }
+        }
         departmentRepository.deleteById(id);
+        dashboardStatistics.departmentDeleted(id);
+        courseIds.forEach(dashboardStatistics::courseDeleted);
     }
 }
@@ -0,0 +1,56 @@
+package com.sms.service;
+
+import com.sms.repository.StudentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Enrolls students in courses by inserting and deleting {@code student_courses} rows directly. Neither
+ * {@code Student.courses} nor {@code Course.students} is loaded, so the cost does not depend on how many
+ * courses a student takes or how many students a course has. Enrolling twice or unenrolling a student who is
+ * not enrolled changes nothing; unknown student or course ids are ignored.
+ *
+ * <p>Collections already loaded in the current persistence context are not updated.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class EnrollmentService {
+    
+    private final StudentRepository studentRepository;
+    private final DashboardStatistics dashboardStatistics;
+    
+    /** Returns {@code true} if the student was not enrolled before. */
+    public boolean enroll(Long studentId, Long courseId) {
+        return enrollAll(List.of(studentId), courseId) > 0;
+    }
+    
+    /** Returns how many of the students were newly enrolled. */
+    public int enrollAll(Collection<Long> studentIds, Long courseId) {
+        if (studentIds.isEmpty()) {
+            return 0;
+        }
+        int enrolled = studentRepository.enroll(studentIds, courseId);
+        dashboardStatistics.enrollmentsChanged(courseId, enrolled);
+        return enrolled;
+    }
+    
+    /** Returns {@code true} if the student was enrolled before. */
+    public boolean unenroll(Long studentId, Long courseId) {
+        return unenrollAll(List.of(studentId), courseId) > 0;
+    }
+    
+    /** Returns how many of the students were enrolled before. */
+    public int unenrollAll(Collection<Long> studentIds, Long courseId) {
+        if (studentIds.isEmpty()) {
+            return 0;
+        }
+        int unenrolled = studentRepository.unenroll(studentIds, courseId);
+        dashboardStatistics.enrollmentsChanged(courseId, -unenrolled);
+        return unenrolled;
+    }
+}
@@ -0,0 +1,221 @@
+package com.sms.service;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sms.csv.CsvWriter;
+import com.sms.entity.Course;
+import com.sms.entity.Department;
+import com.sms.entity.Student;
+import com.sms.entity.Teacher;
+import com.sms.entity.User;
+import com.sms.repository.CourseRepository;
+import com.sms.repository.StudentRepository;
+import com.sms.repository.TeacherRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Streams students, teachers and courses as CSV or JSON. Rows are read through a forward-only, read-only
+ * cursor, written straight to the output and detached right after, so neither the persistence context nor
+ * the response buffer grows with the number of rows.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ExportService {
+
+    public enum Format {
+        CSV("text/csv", "csv"),
+        JSON("application/json", "json");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public static Format of(String value) {
+            try {
+                return valueOf(value.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unsupported export format: " + value);
+            }
+        }
+    }
+
+    private record Column<T>(String name, Function<T, Object> value) {
+    }
+
+    private static final List<Column<Student>> STUDENT_COLUMNS = List.of(
+            new Column<>("id", Student::getId),
+            new Column<>("studentId", Student::getStudentId),
+            new Column<>("firstName", Student::getFirstName),
+            new Column<>("lastName", Student::getLastName),
+            new Column<>("email", Student::getEmail),
+            new Column<>("phone", Student::getPhone),
+            new Column<>("address", Student::getAddress),
+            new Column<>("department", s -> departmentName(s.getDepartment())),
+            new Column<>("username", s -> username(s.getUser())));
+
+    private static final List<Column<Teacher>> TEACHER_COLUMNS = List.of(
+            new Column<>("id", Teacher::getId),
+            new Column<>("employeeId", Teacher::getEmployeeId),
+            new Column<>("firstName", Teacher::getFirstName),
+            new Column<>("lastName", Teacher::getLastName),
+            new Column<>("email", Teacher::getEmail),
+            new Column<>("phone", Teacher::getPhone),
+            new Column<>("specialization", Teacher::getSpecialization),
+            new Column<>("department", t -> departmentName(t.getDepartment())),
+            new Column<>("username", t -> username(t.getUser())));
+
+    private static final List<Column<Course>> COURSE_COLUMNS = List.of(
+            new Column<>("id", Course::getId),
+            new Column<>("code", Course::getCode),
+            new Column<>("name", Course::getName),
+            new Column<>("description", Course::getDescription),
+            new Column<>("credits", Course::getCredits),
+            new Column<>("department", c -> departmentName(c.getDepartment())),
+            new Column<>("teacher", c -> c.getTeacher() == null ? null : c.getTeacher().getEmployeeId()));
+
+    private final StudentRepository studentRepository;
+    private final TeacherRepository teacherRepository;
+    private final CourseRepository courseRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    public long exportStudents(Long departmentId, Format format, OutputStream out) throws IOException {
+        try (Stream<Student> rows = departmentId == null
+                ? studentRepository.streamAllBy()
+                : studentRepository.streamByDepartmentId(departmentId)) {
+            return export("students", rows, STUDENT_COLUMNS, format, out);
+        }
+    }
+
+    public long exportTeachers(Long departmentId, Format format, OutputStream out) throws IOException {
+        try (Stream<Teacher> rows = departmentId == null
+                ? teacherRepository.streamAllBy()
+                : teacherRepository.streamByDepartmentId(departmentId)) {
+            return export("teachers", rows, TEACHER_COLUMNS, format, out);
+        }
+    }
+
+    public long exportCourses(Long departmentId, Format format, OutputStream out) throws IOException {
+        try (Stream<Course> rows = departmentId == null
+                ? courseRepository.streamAllBy()
+                : courseRepository.streamByDepartmentId(departmentId)) {
+            return export("courses", rows, COURSE_COLUMNS, format, out);
+        }
+    }
+
+    private <T> long export(String name, Stream<T> rows, List<Column<T>> columns, Format format, OutputStream out)
+            throws IOException {
+        long start = System.nanoTime();
+        List<String> names = columns.stream().map(Column::name).toList();
+        List<Object> values = new ArrayList<>(columns.size());
+        RowWriter writer = format == Format.CSV ? new CsvRowWriter(out, names) : new JsonRowWriter(out, names);
+        long count = 0;
+        Iterator<T> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            T row = iterator.next();
+            values.clear();
+            for (Column<T> column : columns) {
+                values.add(column.value().apply(row));
+            }
+            writer.write(values);
+            entityManager.detach(row);
+            count++;
+        }
+        writer.finish();
+        log.info("Exported {} {} as {} in {} ms", count, name, format, (System.nanoTime() - start) / 1_000_000);
+        return count;
+    }
+
+    private static String departmentName(Department department) {
+        return department == null ? null : department.getName();
+    }
+
+    private static String username(User user) {
+        return user == null ? null : user.getUsername();
+    }
+
+    private interface RowWriter {
+        void write(List<Object> values) throws IOException;
+
+        void finish() throws IOException;
+    }
+
+    private static final class CsvRowWriter implements RowWriter {
+
+        private final CsvWriter csv;
+
+        CsvRowWriter(OutputStream out, List<String> names) throws IOException {
+            this.csv = new CsvWriter(new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8)));
+            csv.writeRecord(names);
+        }
+
+        @Override
+        public void write(List<Object> values) throws IOException {
+            csv.writeRecord(values);
+        }
+
+        @Override
+        public void finish() throws IOException {
+            csv.flush();
+        }
+    }
+
+    private final class JsonRowWriter implements RowWriter {
+
+        private final JsonGenerator json;
+        private final List<String> names;
+
+        JsonRowWriter(OutputStream out, List<String> names) throws IOException {
+            this.json = objectMapper.createGenerator(out, JsonEncoding.UTF8)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            this.names = names;
+            json.writeStartArray();
+        }
+
+        @Override
+        public void write(List<Object> values) throws IOException {
+            json.writeStartObject();
+            for (int i = 0; i < names.size(); i++) {
+                json.writeObjectField(names.get(i), values.get(i));
+            }
+            json.writeEndObject();
+        }
+
+        @Override
+        public void finish() throws IOException {
+            json.writeEndArray();
+            json.close();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.sms.service;
+
+import com.sms.entity.User;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hashes passwords for bulk account creation on a fixed pool sized to the CPU count. BCrypt is deliberately
+ * slow, so bulk paths hash here first and only then open the transaction that saves the accounts.
+ *
+ * <p>The work queue is bounded; when it is full the submitting thread hashes the password itself, which
+ * throttles producers instead of queueing without limit.
+ */
+@Slf4j
+@Service
+public class PasswordHashingService implements DisposableBean {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final Timer hashTimer;
+
+    public PasswordHashingService(PasswordEncoder passwordEncoder, MeterRegistry meterRegistry,
+                                  @Value("${sms.hashing.threads:0}") int threads,
+                                  @Value("${sms.hashing.queue-capacity:256}") int queueCapacity) {
+        this.passwordEncoder = passwordEncoder;
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.hashTimer = Timer.builder("sms.password.hash")
+                .description("Time to hash one password in bulk account creation")
+                .register(meterRegistry);
+        Gauge.builder("sms.password.hash.queue", executor, e -> e.getQueue().size())
+                .description("Passwords waiting for a hashing thread")
+                .register(meterRegistry);
+        Gauge.builder("sms.password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Hashing threads currently busy")
+                .register(meterRegistry);
+    }
+
+    /** Hashes all raw passwords in parallel and returns them in the same order. */
+    public List<String> encodeAll(List<String> rawPasswords) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            log.warn("Hashing {} passwords inside an open transaction", rawPasswords.size());
+        }
+        List<CompletableFuture<String>> hashes = new ArrayList<>(rawPasswords.size());
+        for (String rawPassword : rawPasswords) {
+            hashes.add(CompletableFuture.supplyAsync(
+                    () -> hashTimer.record(() -> passwordEncoder.encode(rawPassword)), executor));
+        }
+        return hashes.stream().map(CompletableFuture::join).toList();
+    }
+
+    /** Replaces the raw password of every user with its hash. */
+    public void encodePasswords(Collection<User> users) {
+        List<String> hashes = encodeAll(users.stream().map(User::getPassword).toList());
+        int i = 0;
+        for (User user : users) {
+            user.setPassword(hashes.get(i++));
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
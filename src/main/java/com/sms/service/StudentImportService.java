@@ -0,0 +1,232 @@
+package com.sms.service;
+
+import com.sms.csv.CsvReader;
+import com.sms.dto.ImportReport;
+import com.sms.entity.Department;
+import com.sms.entity.Student;
+import com.sms.entity.User;
+import com.sms.repository.DepartmentRepository;
+import com.sms.repository.StudentRepository;
+import com.sms.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk student import from CSV. The file is streamed record by record and persisted in fixed-size chunks,
+ * each in its own transaction that is flushed and cleared, so memory does not grow with the file size.
+ *
+ * <p>Expected header (case-insensitive, any order): {@code studentId, firstName, lastName, email, phone,
+ * address, department, username, password}. {@code phone}, {@code address} and {@code department} may be
+ * empty; {@code username} defaults to the email.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StudentImportService {
+
+    private static final List<String> COLUMNS = List.of(
+            "studentId", "firstName", "lastName", "email", "phone", "address", "department", "username", "password");
+    private static final List<String> REQUIRED_COLUMNS = List.of(
+            "studentId", "firstName", "lastName", "email", "password");
+
+    private final StudentRepository studentRepository;
+    private final DepartmentRepository departmentRepository;
+    private final UserRepository userRepository;
+    private final PasswordHashingService passwordHashingService;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final DashboardStatistics dashboardStatistics;
+
+    @Value("${sms.import.chunk-size:500}")
+    private int chunkSize;
+
+    private record PendingRow(long line, Student student, Long departmentId) {
+    }
+
+    public ImportReport importStudents(Reader input) throws IOException {
+        ImportReport report = new ImportReport();
+        try (CsvReader csv = new CsvReader(input)) {
+            List<String> header = csv.next();
+            if (header == null) {
+                report.rejected(1, "The file is empty");
+                return report;
+            }
+            Map<String, Integer> columns = resolveColumns(header);
+            List<String> missing = REQUIRED_COLUMNS.stream().filter(c -> !columns.containsKey(c)).toList();
+            if (!missing.isEmpty()) {
+                report.rejected(1, "Missing column(s): " + String.join(", ", missing));
+                return report;
+            }
+
+            Map<String, Long> departments = departmentRepository.findAll().stream()
+                    .collect(Collectors.toMap(d -> d.getName().toLowerCase(Locale.ROOT), Department::getId));
+            List<PendingRow> chunk = new ArrayList<>(chunkSize);
+            List<String> record;
+            while ((record = csv.next()) != null) {
+                report.rowRead();
+                PendingRow row = toRow(csv.getRecordLine(), record, columns, departments, report);
+                if (row != null) {
+                    chunk.add(row);
+                }
+                if (chunk.size() == chunkSize) {
+                    persistChunk(chunk, report);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                persistChunk(chunk, report);
+            }
+        }
+        log.info("Student import finished: {} rows, {} imported, {} rejected",
+                report.getRows(), report.getImported(), report.getFailed());
+        return report;
+    }
+
+    private static Map<String, Integer> resolveColumns(List<String> header) {
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.get(i).trim();
+            for (String column : COLUMNS) {
+                if (column.equalsIgnoreCase(name)) {
+                    columns.putIfAbsent(column, i);
+                }
+            }
+        }
+        return columns;
+    }
+
+    private static PendingRow toRow(long line, List<String> record, Map<String, Integer> columns,
+                                    Map<String, Long> departments, ImportReport report) {
+        for (String column : REQUIRED_COLUMNS) {
+            if (value(record, columns, column) == null) {
+                report.rejected(line, "Missing " + column);
+                return null;
+            }
+        }
+        String email = value(record, columns, "email");
+        if (email.indexOf('@') < 1) {
+            report.rejected(line, "Invalid email: " + email);
+            return null;
+        }
+        Long departmentId = null;
+        String departmentName = value(record, columns, "department");
+        if (departmentName != null) {
+            departmentId = departments.get(departmentName.toLowerCase(Locale.ROOT));
+            if (departmentId == null) {
+                report.rejected(line, "Unknown department: " + departmentName);
+                return null;
+            }
+        }
+        String username = value(record, columns, "username");
+
+        User user = new User();
+        user.setUsername(username != null ? username : email);
+        user.setPassword(value(record, columns, "password"));
+        user.setRole(User.Role.STUDENT);
+
+        Student student = new Student();
+        student.setStudentId(value(record, columns, "studentId"));
+        student.setFirstName(value(record, columns, "firstName"));
+        student.setLastName(value(record, columns, "lastName"));
+        student.setEmail(email);
+        student.setPhone(value(record, columns, "phone"));
+        student.setAddress(value(record, columns, "address"));
+        student.setUser(user);
+        return new PendingRow(line, student, departmentId);
+    }
+
+    private static String value(List<String> record, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private void persistChunk(List<PendingRow> chunk, ImportReport report) {
+        List<PendingRow> rows = rejectDuplicates(chunk, report);
+        if (rows.isEmpty()) {
+            return;
+        }
+        passwordHashingService.encodePasswords(rows.stream().map(row -> row.student().getUser()).toList());
+        try {
+            transactionTemplate.executeWithoutResult(status -> insert(rows));
+            rows.forEach(this::counted);
+            report.imported(rows.size());
+        } catch (PersistenceException | DataAccessException e) {
+            // A row was taken concurrently after the duplicate check; retry one by one to isolate it.
+            for (PendingRow row : rows) {
+                row.student().setId(null);
+                row.student().getUser().setId(null);
+                try {
+                    transactionTemplate.executeWithoutResult(status -> insert(List.of(row)));
+                    counted(row);
+                    report.imported(1);
+                } catch (PersistenceException | DataAccessException rowFailure) {
+                    report.rejected(row.line(), "Could not be saved: "
+                            + NestedExceptionUtils.getMostSpecificCause(rowFailure).getMessage());
+                }
+            }
+        }
+    }
+
+    private void insert(List<PendingRow> rows) {
+        for (PendingRow row : rows) {
+            if (row.departmentId() != null) {
+                row.student().setDepartment(entityManager.getReference(Department.class, row.departmentId()));
+            }
+            entityManager.persist(row.student());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private void counted(PendingRow row) {
+        dashboardStatistics.added(DashboardStatistics.Counter.STUDENTS, row.departmentId());
+    }
+
+    private List<PendingRow> rejectDuplicates(List<PendingRow> chunk, ImportReport report) {
+        Set<String> studentIds = studentRepository.findExistingStudentIds(
+                chunk.stream().map(row -> row.student().getStudentId()).toList());
+        Set<String> emails = studentRepository.findExistingEmails(
+                chunk.stream().map(row -> row.student().getEmail()).toList());
+        Set<String> usernames = userRepository.findExistingUsernames(
+                chunk.stream().map(row -> row.student().getUser().getUsername()).toList());
+
+        List<PendingRow> accepted = new ArrayList<>(chunk.size());
+        Set<String> seen = new HashSet<>();
+        for (PendingRow row : chunk) {
+            Student student = row.student();
+            if (studentIds.contains(student.getStudentId()) || !seen.add("id:" + student.getStudentId())) {
+                report.rejected(row.line(), "Duplicate student ID: " + student.getStudentId());
+            } else if (emails.contains(student.getEmail()) || !seen.add("email:" + student.getEmail())) {
+                report.rejected(row.line(), "Duplicate email: " + student.getEmail());
+            } else if (usernames.contains(student.getUser().getUsername())
+                    || !seen.add("user:" + student.getUser().getUsername())) {
+                report.rejected(row.line(), "Duplicate username: " + student.getUser().getUsername());
+            } else {
+                accepted.add(row);
+            }
+        }
+        return accepted;
+    }
+}
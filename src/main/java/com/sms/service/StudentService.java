@@ -1,14 +1,27 @@
 package com.sms.service;
 
+import com.sms.dto.StudentSummary;
+import com.sms.entity.Department;
 import com.sms.entity.Student;
 import com.sms.entity.User;
+import com.sms.repository.DepartmentRepository;
+import com.sms.repository.KeysetRequest;
+import com.sms.repository.KeysetSlice;
 import com.sms.repository.StudentRepository;
+import com.sms.service.DashboardStatistics.Counter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
@@ -16,50 +29,148 @@ import java.util.List;
 public class StudentService {
     
     private final StudentRepository studentRepository;
+    private final DepartmentRepository departmentRepository;
     private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+    private final TransactionTemplate transactionTemplate;
+    private final UserDetailsCache userDetailsCache;
+    private final DashboardStatistics dashboardStatistics;
     
     public Student createStudent(Student student) {
         if (student.getUser() != null) {
             student.getUser().setPassword(passwordEncoder.encode(student.getUser().getPassword()));
             student.getUser().setRole(User.Role.STUDENT);
         }
-        return studentRepository.save(student);
+        Student saved = studentRepository.save(student);
+        dashboardStatistics.added(Counter.STUDENTS, departmentId(student.getDepartment()));
+        return saved;
     }
     
+    /**
+     * Creates many students at once. Passwords are hashed in parallel before the transaction that saves them
+     * is opened, so the connection is only held for the inserts.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<Student> createStudents(List<Student> students) {
+        List<User> users = students.stream().map(Student::getUser).filter(Objects::nonNull).toList();
+        passwordHashingService.encodePasswords(users);
+        users.forEach(user -> user.setRole(User.Role.STUDENT));
+        List<Student> saved = transactionTemplate.execute(status -> studentRepository.saveAll(students));
+        students.forEach(s -> dashboardStatistics.added(Counter.STUDENTS, departmentId(s.getDepartment())));
+        return saved;
+    }
+    
+    @Transactional(readOnly = true)
     public List<Student> getAllStudents() {
         return studentRepository.findAll();
     }
     
+    @Transactional(readOnly = true)
+    public KeysetSlice<StudentSummary> getStudentSlice(KeysetRequest request) {
+        return studentRepository.findSummarySlice(request);
+    }
+    
+    @Transactional(readOnly = true)
+    public KeysetSlice<StudentSummary> getCourseRoster(Long courseId, KeysetRequest request) {
+        return studentRepository.findRosterSlice(courseId, request);
+    }
+    
+    @Transactional(readOnly = true)
+    public Slice<StudentSummary> searchStudents(String query, Pageable pageable) {
+        return studentRepository.search(query, pageable);
+    }
+    
+    @Transactional(readOnly = true)
     public Student getStudentById(Long id) {
-        return studentRepository.findById(id).orElse(null);
+        return studentRepository.findWithDetailsById(id).orElse(null);
     }
     
+    @Transactional(readOnly = true)
     public Student getStudentByEmail(String email) {
         return studentRepository.findByEmail(email).orElse(null);
     }
     
+    @Transactional(readOnly = true)
     public List<Student> getStudentsByDepartment(Long departmentId) {
         return studentRepository.findByDepartmentId(departmentId);
     }
     
-    public Student updateStudent(Long id, Student student) {
-        if (studentRepository.existsById(id)) {
-            Student existing = studentRepository.findById(id).get();
-            student.setId(id);
-            // Preserve user if not updating
-            if (student.getUser() == null) {
-                student.setUser(existing.getUser());
-            } else if (student.getUser().getPassword() != null && !student.getUser().getPassword().isEmpty()) {
-                student.getUser().setPassword(passwordEncoder.encode(student.getUser().getPassword()));
-            } else {
-                student.getUser().setPassword(existing.getUser().getPassword());
+    /**
+     * Applies the fields set on {@code changes} to the stored student; null fields are left as they are. The
+     * student is loaded once and written back by dirty checking, so an edit costs one select and one update of
+     * the changed columns. If {@code changes} carries a version other than the stored one, someone else saved
+     * the student in the meantime and {@link ObjectOptimisticLockingFailureException} is thrown; the same
+     * happens when a concurrent update commits between the select and the update.
+     */
+    public Student updateStudent(Long id, Student changes) {
+        Student existing = studentRepository.findById(id).orElse(null);
+        if (existing == null) {
+            return null;
+        }
+        if (changes.getVersion() != null && !changes.getVersion().equals(existing.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(Student.class, id);
+        }
+        setIfPresent(changes.getStudentId(), existing::setStudentId);
+        setIfPresent(changes.getFirstName(), existing::setFirstName);
+        setIfPresent(changes.getLastName(), existing::setLastName);
+        setIfPresent(changes.getEmail(), existing::setEmail);
+        setIfPresent(changes.getPhone(), existing::setPhone);
+        setIfPresent(changes.getAddress(), existing::setAddress);
+        if (changes.getDepartment() != null) {
+            Long from = departmentId(existing.getDepartment());
+            Long to = changes.getDepartment().getId();
+            if (!Objects.equals(from, to)) {
+                existing.setDepartment(to != null ? departmentRepository.getReferenceById(to) : null);
+                dashboardStatistics.moved(Counter.STUDENTS, from, to);
             }
-            return studentRepository.save(student);
         }
-        return null;
+        if (changes.getUser() != null) {
+            updateUser(existing, changes.getUser());
+        }
+        return existing;
     }
     
     public void deleteStudent(Long id) {
+        studentRepository.findById(id).ifPresent(existing -> {
+            evictUserDetails(existing.getUser());
+            dashboardStatistics.removed(Counter.STUDENTS, departmentId(existing.getDepartment()));
+            // The delete also drops the student's student_courses rows
+            studentRepository.findCourseIdsById(id)
+                    .forEach(courseId -> dashboardStatistics.enrollmentsChanged(courseId, -1));
+        });
         studentRepository.deleteById(id);
     }
+    
+    private static Long departmentId(Department department) {
+        return department != null ? department.getId() : null;
+    }
+    
+    private void updateUser(Student existing, User changes) {
+        User user = existing.getUser();
+        // Cached credentials must not outlive a password or username change
+        evictUserDetails(user);
+        evictUserDetails(changes);
+        if (user == null) {
+            changes.setPassword(passwordEncoder.encode(changes.getPassword()));
+            changes.setRole(User.Role.STUDENT);
+            existing.setUser(changes);
+            return;
+        }
+        setIfPresent(changes.getUsername(), user::setUsername);
+        if (changes.getPassword() != null && !changes.getPassword().isEmpty()) {
+            user.setPassword(passwordEncoder.encode(changes.getPassword()));
+        }
+    }
+    
+    private static <T> void setIfPresent(T value, Consumer<T> setter) {
+        if (value != null) {
+            setter.accept(value);
+        }
+    }
+    
+    private void evictUserDetails(User user) {
+        if (user != null) {
+            userDetailsCache.evict(user.getUsername());
+        }
+    }
 }
@@ -1,14 +1,27 @@
 package com.sms.service;
 
+import com.sms.dto.TeacherSummary;
+import com.sms.entity.Department;
 import com.sms.entity.Teacher;
 import com.sms.entity.User;
+import com.sms.repository.DepartmentRepository;
+import com.sms.repository.KeysetRequest;
+import com.sms.repository.KeysetSlice;
 import com.sms.repository.TeacherRepository;
+import com.sms.service.DashboardStatistics.Counter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
@@ -16,50 +29,138 @@ import java.util.List;
 public class TeacherService {
     
     private final TeacherRepository teacherRepository;
+    private final DepartmentRepository departmentRepository;
     private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+    private final TransactionTemplate transactionTemplate;
+    private final UserDetailsCache userDetailsCache;
+    private final DashboardStatistics dashboardStatistics;
     
     public Teacher createTeacher(Teacher teacher) {
         if (teacher.getUser() != null) {
             teacher.getUser().setPassword(passwordEncoder.encode(teacher.getUser().getPassword()));
             teacher.getUser().setRole(User.Role.TEACHER);
         }
-        return teacherRepository.save(teacher);
+        Teacher saved = teacherRepository.save(teacher);
+        dashboardStatistics.added(Counter.TEACHERS, departmentId(teacher.getDepartment()));
+        return saved;
     }
     
+    /**
+     * Creates many teachers at once. Passwords are hashed in parallel before the transaction that saves them
+     * is opened, so the connection is only held for the inserts.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<Teacher> createTeachers(List<Teacher> teachers) {
+        List<User> users = teachers.stream().map(Teacher::getUser).filter(Objects::nonNull).toList();
+        passwordHashingService.encodePasswords(users);
+        users.forEach(user -> user.setRole(User.Role.TEACHER));
+        List<Teacher> saved = transactionTemplate.execute(status -> teacherRepository.saveAll(teachers));
+        teachers.forEach(t -> dashboardStatistics.added(Counter.TEACHERS, departmentId(t.getDepartment())));
+        return saved;
+    }
+    
+    @Transactional(readOnly = true)
     public List<Teacher> getAllTeachers() {
         return teacherRepository.findAll();
     }
     
+    @Transactional(readOnly = true)
+    public KeysetSlice<TeacherSummary> getTeacherSlice(KeysetRequest request) {
+        return teacherRepository.findSummarySlice(request);
+    }
+    
+    @Transactional(readOnly = true)
+    public Slice<TeacherSummary> searchTeachers(String query, Pageable pageable) {
+        return teacherRepository.search(query, pageable);
+    }
+    
+    @Transactional(readOnly = true)
     public Teacher getTeacherById(Long id) {
-        return teacherRepository.findById(id).orElse(null);
+        return teacherRepository.findWithDetailsById(id).orElse(null);
     }
     
+    @Transactional(readOnly = true)
     public Teacher getTeacherByEmail(String email) {
         return teacherRepository.findByEmail(email).orElse(null);
     }
     
+    @Transactional(readOnly = true)
     public List<Teacher> getTeachersByDepartment(Long departmentId) {
         return teacherRepository.findByDepartmentId(departmentId);
     }
     
-    public Teacher updateTeacher(Long id, Teacher teacher) {
-        if (teacherRepository.existsById(id)) {
-            Teacher existing = teacherRepository.findById(id).get();
-            teacher.setId(id);
-            // Preserve user if not updating
-            if (teacher.getUser() == null) {
-                teacher.setUser(existing.getUser());
-            } else if (teacher.getUser().getPassword() != null && !teacher.getUser().getPassword().isEmpty()) {
-                teacher.getUser().setPassword(passwordEncoder.encode(teacher.getUser().getPassword()));
-            } else {
-                teacher.getUser().setPassword(existing.getUser().getPassword());
+    /**
+     * Applies the fields set on {@code changes} to the stored teacher; null fields are left as they are. Loads
+     * once and writes back by dirty checking, and rejects a stale version like
+     * {@link StudentService#updateStudent(Long, com.sms.entity.Student)}.
+     */
+    public Teacher updateTeacher(Long id, Teacher changes) {
+        Teacher existing = teacherRepository.findById(id).orElse(null);
+        if (existing == null) {
+            return null;
+        }
+        if (changes.getVersion() != null && !changes.getVersion().equals(existing.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(Teacher.class, id);
+        }
+        setIfPresent(changes.getEmployeeId(), existing::setEmployeeId);
+        setIfPresent(changes.getFirstName(), existing::setFirstName);
+        setIfPresent(changes.getLastName(), existing::setLastName);
+        setIfPresent(changes.getEmail(), existing::setEmail);
+        setIfPresent(changes.getPhone(), existing::setPhone);
+        setIfPresent(changes.getSpecialization(), existing::setSpecialization);
+        if (changes.getDepartment() != null) {
+            Long from = departmentId(existing.getDepartment());
+            Long to = changes.getDepartment().getId();
+            if (!Objects.equals(from, to)) {
+                existing.setDepartment(to != null ? departmentRepository.getReferenceById(to) : null);
+                dashboardStatistics.moved(Counter.TEACHERS, from, to);
             }
-            return teacherRepository.save(teacher);
         }
-        return null;
+        if (changes.getUser() != null) {
+            updateUser(existing, changes.getUser());
+        }
+        return existing;
     }
     
     public void deleteTeacher(Long id) {
+        teacherRepository.findById(id).ifPresent(existing -> {
+            evictUserDetails(existing.getUser());
+            dashboardStatistics.removed(Counter.TEACHERS, departmentId(existing.getDepartment()));
+        });
         teacherRepository.deleteById(id);
     }
+    
+    private static Long departmentId(Department department) {
+        return department != null ? department.getId() : null;
+    }
+    
+    private void updateUser(Teacher existing, User changes) {
+        User user = existing.getUser();
+        // Cached credentials must not outlive a password or username change
+        evictUserDetails(user);
+        evictUserDetails(changes);
+        if (user == null) {
+            changes.setPassword(passwordEncoder.encode(changes.getPassword()));
+            changes.setRole(User.Role.TEACHER);
+            existing.setUser(changes);
+            return;
+        }
+        setIfPresent(changes.getUsername(), user::setUsername);
+        if (changes.getPassword() != null && !changes.getPassword().isEmpty()) {
+            user.setPassword(passwordEncoder.encode(changes.getPassword()));
+        }
+    }
+    
+    private static <T> void setIfPresent(T value, Consumer<T> setter) {
+        if (value != null) {
+            setter.accept(value);
+        }
+    }
+    
+    private void evictUserDetails(User user) {
+        if (user != null) {
+            userDetailsCache.evict(user.getUsername());
+        }
+    }
 }
@@ -0,0 +1,62 @@
+package com.sms.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Bounded, time-limited cache of {@link UserDetails} by username. Callers always get a copy, because the
+ * authentication manager erases the credentials of the instance it is handed.
+ *
+ * <p>Writes to a user must call {@link #evict(String)}. Inside a transaction the entry is dropped right away
+ * and again when the transaction completes, so a lookup racing with the write cannot put the old state back.
+ */
+@Component
+public class UserDetailsCache {
+
+    private final Cache<String, UserDetails> cache;
+
+    public UserDetailsCache(@Value("${sms.security.user-cache.max-size:10000}") long maxSize,
+                            @Value("${sms.security.user-cache.ttl:5m}") Duration ttl,
+                            MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "userDetails");
+    }
+
+    public UserDetails get(String username, Function<String, UserDetails> loader) {
+        return copy(cache.get(username, loader));
+    }
+
+    public void evict(String username) {
+        if (username == null) {
+            return;
+        }
+        cache.invalidate(username);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(username);
+                }
+            });
+        }
+    }
+
+    private static UserDetails copy(UserDetails details) {
+        return User.withUserDetails(details).build();
+    }
+}
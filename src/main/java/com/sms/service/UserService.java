@@ -9,6 +9,7 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collections;
 import java.util.List;
@@ -19,9 +20,14 @@ public class UserService implements UserDetailsService {
     
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserDetailsCache userDetailsCache;
     
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        return userDetailsCache.get(username, this::loadUser);
+    }
+    
+    private UserDetails loadUser(String username) {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
         
@@ -36,6 +42,7 @@ public class UserService implements UserDetailsService {
         );
     }
     
+    @Transactional
     public User createUser(User user) {
         user.setPassword(passwordEncoder.encode(user.getPassword()));
         return userRepository.save(user);
@@ -49,7 +56,21 @@ public class UserService implements UserDetailsService {
         return userRepository.findById(id).orElse(null);
     }
     
+    /** Evicts again once the delete commits, so a login in between cannot re-cache the account. */
+    @Transactional
     public void deleteUser(Long id) {
+        userRepository.findById(id).ifPresent(user -> userDetailsCache.evict(user.getUsername()));
         userRepository.deleteById(id);
     }
+    
+    /** Enables or disables an account; a disabled account stops authenticating once this commits. */
+    @Transactional
+    public User setEnabled(Long id, boolean enabled) {
+        User user = userRepository.findById(id).orElse(null);
+        if (user != null && user.isEnabled() != enabled) {
+            user.setEnabled(enabled);
+            userDetailsCache.evict(user.getUsername());
+        }
+        return user;
+    }
 }
@@ -0,0 +1,31 @@
+-- One-off migration for PostgreSQL databases created while ids were GenerationType.IDENTITY.
+-- Run it once, with the application stopped, before starting a version that uses sequence ids:
+--   psql -h localhost -U smsuser -d smsdb -f src/main/resources/db/identity-to-sequence.sql
+--
+-- Each sequence is positioned so that the pooled optimizer (allocationSize = 50) hands out ids
+-- starting right after the current maximum: the first nextval returns MAX(id) + 50 and Hibernate
+-- uses the block MAX(id) + 1 .. MAX(id) + 50.
+
+BEGIN;
+
+ALTER TABLE departments ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE IF NOT EXISTS departments_seq INCREMENT BY 50;
+SELECT setval('departments_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM departments), false);
+
+ALTER TABLE users ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE IF NOT EXISTS users_seq INCREMENT BY 50;
+SELECT setval('users_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM users), false);
+
+ALTER TABLE teachers ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE IF NOT EXISTS teachers_seq INCREMENT BY 50;
+SELECT setval('teachers_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM teachers), false);
+
+ALTER TABLE students ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE IF NOT EXISTS students_seq INCREMENT BY 50;
+SELECT setval('students_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM students), false);
+
+ALTER TABLE courses ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE IF NOT EXISTS courses_seq INCREMENT BY 50;
+SELECT setval('courses_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM courses), false);
+
+COMMIT;
@@ -0,0 +1,26 @@
+-- Indexes for the student and teacher search on PostgreSQL. SearchIndexInitializer runs this script on
+-- startup; every statement is idempotent. Creating the pg_trgm extension needs a privileged role, so if the
+-- application user may not create it, run this script once as a superuser:
+--   psql -h localhost -U postgres -d smsdb -f src/main/resources/db/search-indexes.sql
+--
+-- The indexed expressions must stay identical to the search documents in StudentRepositoryCustomImpl and
+-- TeacherRepositoryCustomImpl, otherwise the planner cannot use them.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_students_search_fts ON students USING gin (
+    to_tsvector('simple', coalesce(student_id, '') || ' ' || coalesce(first_name, '') || ' '
+        || coalesce(last_name, '') || ' ' || coalesce(email, '')));
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_students_search_trgm ON students USING gin (
+    lower(coalesce(student_id, '') || ' ' || coalesce(first_name, '') || ' '
+        || coalesce(last_name, '') || ' ' || coalesce(email, '')) gin_trgm_ops);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_teachers_search_fts ON teachers USING gin (
+    to_tsvector('simple', coalesce(employee_id, '') || ' ' || coalesce(first_name, '') || ' '
+        || coalesce(last_name, '') || ' ' || coalesce(email, '') || ' ' || coalesce(specialization, '')));
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_teachers_search_trgm ON teachers USING gin (
+    lower(coalesce(employee_id, '') || ' ' || coalesce(first_name, '') || ' '
+        || coalesce(last_name, '') || ' ' || coalesce(email, '') || ' ' || coalesce(specialization, ''))
+    gin_trgm_ops);
@@ -0,0 +1,60 @@
+// Navbar search: queries the in-memory index as the user types and lists matches below the box.
+// Enter submits the form to the full search page.
+(function () {
+    const form = document.querySelector('.nav-search');
+    if (!form) {
+        return;
+    }
+    const input = form.querySelector('input[name="q"]');
+    const results = form.querySelector('.nav-search-results');
+    let timer;
+    let latest = 0;
+
+    input.addEventListener('input', function () {
+        clearTimeout(timer);
+        timer = setTimeout(lookup, 150);
+    });
+    input.addEventListener('keydown', function (e) {
+        if (e.key === 'Escape') {
+            results.hidden = true;
+        }
+    });
+    document.addEventListener('click', function (e) {
+        if (!form.contains(e.target)) {
+            results.hidden = true;
+        }
+    });
+
+    function lookup() {
+        const query = input.value.trim();
+        const request = ++latest;
+        if (!query) {
+            results.hidden = true;
+            return;
+        }
+        fetch('/api/search?limit=10&q=' + encodeURIComponent(query))
+            .then(response => response.ok ? response.json() : [])
+            .then(hits => {
+                if (request === latest) {
+                    render(hits);
+                }
+            });
+    }
+
+    function render(hits) {
+        results.replaceChildren();
+        hits.forEach(hit => {
+            const item = document.createElement('li');
+            const link = document.createElement('a');
+            link.href = hit.url;
+            link.textContent = hit.label;
+            const type = document.createElement('span');
+            type.className = 'nav-search-type';
+            type.textContent = hit.type.toLowerCase();
+            link.appendChild(type);
+            item.appendChild(link);
+            results.appendChild(item);
+        });
+        results.hidden = hits.length === 0;
+    }
+})();
@@ -0,0 +1,82 @@
+// Form lookups: each .typeahead box fetches the top matches from its data-source as the user types and
+// stores the chosen id in its hidden input. Text edited without choosing a match falls back to the previous
+// choice on blur, Escape or submit; clearing the text clears the selection.
+(function () {
+    document.querySelectorAll('.typeahead:not([data-bound])').forEach(function (box) {
+        box.dataset.bound = 'true';
+        const input = box.querySelector('.typeahead-input');
+        const value = box.querySelector('.typeahead-value');
+        const results = box.querySelector('.typeahead-results');
+        let chosen = { id: value.value, label: input.value };
+        let timer;
+        let latest = 0;
+
+        input.addEventListener('input', function () {
+            clearTimeout(timer);
+            timer = setTimeout(lookup, 150);
+        });
+        input.addEventListener('keydown', function (e) {
+            if (e.key === 'Escape') {
+                settle();
+            }
+        });
+        input.addEventListener('blur', settle);
+        if (input.form) {
+            input.form.addEventListener('submit', settle);
+        }
+        document.addEventListener('click', function (e) {
+            if (!box.contains(e.target)) {
+                results.hidden = true;
+            }
+        });
+
+        function choose(option) {
+            chosen = { id: String(option.id), label: option.label };
+            settle();
+        }
+
+        function settle() {
+            clearTimeout(timer);
+            latest++;
+            results.hidden = true;
+            if (!input.value.trim()) {
+                chosen = { id: '', label: '' };
+            }
+            input.value = chosen.label;
+            value.value = chosen.id;
+        }
+
+        function lookup() {
+            const query = input.value.trim();
+            const request = ++latest;
+            if (!query) {
+                results.hidden = true;
+                return;
+            }
+            fetch(box.dataset.source + '?limit=10&q=' + encodeURIComponent(query))
+                .then(response => response.ok ? response.json() : [])
+                .then(options => {
+                    if (request === latest) {
+                        render(options);
+                    }
+                });
+        }
+
+        function render(options) {
+            results.replaceChildren();
+            options.forEach(option => {
+                const item = document.createElement('li');
+                item.textContent = option.label;
+                // Keep the focus in the input, so choosing does not blur it and restore the old choice first
+                item.addEventListener('mousedown', function (e) {
+                    e.preventDefault();
+                });
+                item.addEventListener('click', function () {
+                    choose(option);
+                });
+                results.appendChild(item);
+            });
+            results.hidden = options.length === 0;
+        }
+    });
+})();
@@ -0,0 +1,56 @@
+package com.sms.concurrency;
+
+import com.sms.concurrency.AdaptiveConcurrencyLimit.Priority;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AdaptiveConcurrencyFilter Unit Tests")
+class AdaptiveConcurrencyFilterTest {
+
+    private final AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 10, 10, 20, 1.5, 0.9, 0.1);
+    private final AdaptiveConcurrencyFilter filter = new AdaptiveConcurrencyFilter(limit, Duration.ofSeconds(2));
+
+    @Test
+    @DisplayName("Should shed requests over the limit with 503 and Retry-After but still serve assets")
+    void testShedsOverLimit() throws Exception {
+        while (limit.tryAcquire(Priority.NORMAL)) {
+            // Occupy every permit normal requests may use
+        }
+
+        MockHttpServletResponse shed = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(new MockHttpServletRequest("GET", "/students"), shed, chain);
+        assertThat(shed.getStatus()).isEqualTo(503);
+        assertThat(shed.getHeader("Retry-After")).isEqualTo("2");
+        assertThat(chain.getRequest()).isNull();
+
+        MockHttpServletResponse asset = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/css/style.css"), asset, new MockFilterChain());
+        assertThat(asset.getStatus()).isEqualTo(200);
+
+        MockHttpServletResponse login = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("POST", "/login"), login, new MockFilterChain());
+        assertThat(login.getStatus()).isEqualTo(200);
+        assertThat(limit.getInflight()).isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("Should classify static assets, actuator and login pages")
+    void testPriorities() {
+        assertThat(AdaptiveConcurrencyFilter.priority(new MockHttpServletRequest("GET", "/js/app.js")))
+                .isEqualTo(Priority.EXEMPT);
+        assertThat(AdaptiveConcurrencyFilter.priority(new MockHttpServletRequest("GET", "/actuator/concurrency")))
+                .isEqualTo(Priority.EXEMPT);
+        assertThat(AdaptiveConcurrencyFilter.priority(new MockHttpServletRequest("GET", "/login")))
+                .isEqualTo(Priority.LOGIN);
+        assertThat(AdaptiveConcurrencyFilter.priority(new MockHttpServletRequest("GET", "/loginx")))
+                .isEqualTo(Priority.NORMAL);
+    }
+}
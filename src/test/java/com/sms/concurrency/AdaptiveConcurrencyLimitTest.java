@@ -0,0 +1,78 @@
+package com.sms.concurrency;
+
+import com.sms.concurrency.AdaptiveConcurrencyLimit.Priority;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AdaptiveConcurrencyLimit Unit Tests")
+class AdaptiveConcurrencyLimitTest {
+
+    private final AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(40, 5, 200, 5, 1.5, 0.9, 0.1);
+
+    @Test
+    @DisplayName("Should raise the limit while busy and latency stays at its baseline")
+    void testGrowsAtSteadyLatency() {
+        for (int round = 0; round < 10; round++) {
+            serveFullLimit(10);
+        }
+
+        assertThat(limit.getLimit()).isGreaterThan(40);
+        assertThat(limit.getChanges()).isPositive();
+        assertThat(limit.getRecentChanges()).allMatch(change -> change.to() > change.from());
+    }
+
+    @Test
+    @DisplayName("Should lower the limit when latency rises above the baseline and back off on drops")
+    void testShrinksOnLatencyAndDrops() {
+        serveFullLimit(10);
+        int baseline = limit.getLimit();
+        for (int round = 0; round < 2; round++) {
+            serveFullLimit(100);
+        }
+        int slowed = limit.getLimit();
+        assertThat(slowed).isLessThan(baseline);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(limit.tryAcquire(Priority.NORMAL)).isTrue();
+        }
+        for (int i = 0; i < 5; i++) {
+            limit.release(Priority.NORMAL, 0, true);
+        }
+        assertThat(limit.getLimit()).isLessThan(slowed);
+        assertThat(limit.getRecentChanges()).last().extracting(AdaptiveConcurrencyLimit.LimitChange::reason)
+                .isEqualTo("drop");
+    }
+
+    @Test
+    @DisplayName("Should shed normal requests before logins and never limit exempt requests")
+    void testPriorityClasses() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        limit.bindTo(meterRegistry);
+        while (limit.tryAcquire(Priority.NORMAL)) {
+            // Fill the share normal requests may use
+        }
+
+        assertThat(limit.getInflight()).isEqualTo(36);
+        assertThat(limit.tryAcquire(Priority.LOGIN)).isTrue();
+        assertThat(limit.tryAcquire(Priority.EXEMPT)).isTrue();
+        assertThat(limit.getInflight()).isEqualTo(37);
+        assertThat(meterRegistry.get("sms.concurrency.rejected").tag("priority", "normal").functionCounter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("sms.concurrency.inflight").gauge().value()).isEqualTo(37);
+    }
+
+    private void serveFullLimit(long latencyMillis) {
+        int admitted = 0;
+        while (limit.tryAcquire(Priority.LOGIN)) {
+            admitted++;
+        }
+        for (int i = 0; i < admitted; i++) {
+            limit.release(Priority.LOGIN, TimeUnit.MILLISECONDS.toNanos(latencyMillis), false);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.sms.concurrency;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("DatabaseBulkhead Unit Tests")
+class DatabaseBulkheadTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final DatabaseBulkhead bulkhead = new DatabaseBulkhead(1, 0, Duration.ofMillis(50));
+
+    DatabaseBulkheadTest() {
+        bulkhead.bindTo(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should let a nested service call reuse the caller's permit")
+    void testNestedCallReusesPermit() throws Throwable {
+        String result = bulkhead.execute(() -> bulkhead.execute(() -> "nested"));
+
+        assertThat(result).isEqualTo("nested");
+        assertThat(meterRegistry.get("sms.db.bulkhead.available").gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get("sms.db.bulkhead.wait").functionTimer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reject a call once every permit stays busy past the maximum wait")
+    void testRejectsWhenSaturated() throws Exception {
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = Thread.ofVirtual().start(() -> {
+            try {
+                bulkhead.execute(() -> {
+                    holding.countDown();
+                    release.await();
+                    return null;
+                });
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        holding.await();
+
+        assertThatThrownBy(() -> bulkhead.execute(() -> "late"))
+                .isInstanceOf(DatabaseCapacityExceededException.class);
+        assertThat(meterRegistry.get("sms.db.bulkhead.rejected").functionCounter().count()).isEqualTo(1);
+
+        release.countDown();
+        holder.join();
+        assertThat(meterRegistry.get("sms.db.bulkhead.available").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should take read-only permits from the replica route when it has permits of its own")
+    void testReadOnlyCallsUseReplicaPermits() throws Throwable {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        DatabaseBulkhead routed = new DatabaseBulkhead(1, 2, Duration.ofMillis(50));
+        routed.bindTo(registry);
+
+        double primaryFree = routed.execute(true,
+                () -> registry.get("sms.db.bulkhead.available").tag("route", "primary").gauge().value());
+        double replicaFree = routed.execute(true,
+                () -> registry.get("sms.db.bulkhead.available").tag("route", "replica").gauge().value());
+
+        assertThat(primaryFree).isEqualTo(1);
+        assertThat(replicaFree).isEqualTo(1);
+        assertThat(registry.get("sms.db.bulkhead.wait").tag("route", "replica").functionTimer().count())
+                .isEqualTo(2);
+        assertThat(registry.get("sms.db.bulkhead.wait").tag("route", "primary").functionTimer().count())
+                .isZero();
+    }
+}
@@ -1,12 +1,15 @@
 package com.sms.controller;
 
 import com.sms.config.TestSecurityConfig;
+import com.sms.dto.CourseSummary;
+import com.sms.dto.StudentSummary;
 import com.sms.entity.Course;
 import com.sms.entity.Department;
 import com.sms.entity.Teacher;
+import com.sms.repository.KeysetRequest;
+import com.sms.repository.KeysetSlice;
 import com.sms.service.CourseService;
-import com.sms.service.DepartmentService;
-import com.sms.service.TeacherService;
+import com.sms.service.StudentService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,12 +20,13 @@ import org.springframework.context.annotation.Import;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
-import java.util.Arrays;
 import java.util.List;
 
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -41,10 +45,7 @@ class CourseControllerTest {
     private CourseService courseService;
 
     @MockBean
-    private DepartmentService departmentService;
-
-    @MockBean
-    private TeacherService teacherService;
+    private StudentService studentService;
 
     private Course course;
     private Department department;
@@ -75,43 +76,57 @@ class CourseControllerTest {
     @DisplayName("Should display list of courses")
     void testListCourses() throws Exception {
         // Arrange
-        List<Course> courses = Arrays.asList(course);
-        when(courseService.getAllCourses()).thenReturn(courses);
+        CourseSummary summary = new CourseSummary(1L, "CS101", "Introduction to Programming", 3,
+                "Computer Science", "Jane", "Smith");
+        when(courseService.getCourseSlice(any(KeysetRequest.class)))
+                .thenReturn(new KeysetSlice<>(List.of(summary), KeysetRequest.of("code", "asc", 25, null, null),
+                        false, false, null, null));
 
         // Act & Assert
         mockMvc.perform(get("/courses"))
                 .andExpect(status().isOk())
                 .andExpect(view().name("courses/list"))
-                .andExpect(model().attribute("courses", hasSize(1)))
-                .andExpect(model().attribute("courses", hasItem(
-                        allOf(
-                                hasProperty("id", is(1L)),
-                                hasProperty("code", is("CS101")),
-                                hasProperty("name", is("Introduction to Programming"))
-                        )
-                )));
-
-        verify(courseService).getAllCourses();
+                .andExpect(model().attribute("courses", contains(summary)))
+                .andExpect(content().string(containsString("Jane Smith")))
+                .andExpect(model().attributeExists("page"));
+
+        verify(courseService).getCourseSlice(any(KeysetRequest.class));
+    }
+
+    @Test
+    @WithMockUser(roles = "STUDENT")
+    @DisplayName("Should show course details with a paginated roster")
+    void testViewCourse() throws Exception {
+        // Arrange
+        StudentSummary student = new StudentSummary(5L, "STU005", "Ada", "Lovelace", "ada@example.com",
+                "Computer Science");
+        when(courseService.getCourseById(1L)).thenReturn(course);
+        when(courseService.countEnrolledStudents(1L)).thenReturn(40L);
+        when(studentService.getCourseRoster(eq(1L), any(KeysetRequest.class)))
+                .thenReturn(new KeysetSlice<>(List.of(student), KeysetRequest.of("lastName", "asc", 1, null, null),
+                        true, false, null, null));
+
+        // Act & Assert
+        mockMvc.perform(get("/courses/1").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("courses/view"))
+                .andExpect(model().attribute("enrolledCount", 40L))
+                .andExpect(model().attribute("students", contains(student)))
+                .andExpect(content().string(containsString("Lovelace")));
+
+        verify(studentService).getCourseRoster(eq(1L), argThat(request -> request.size() == 1));
     }
 
     @Test
     @WithMockUser(roles = "TEACHER")
     @DisplayName("Should show create course form")
     void testShowCreateForm() throws Exception {
-        // Arrange
-        when(departmentService.getAllDepartments()).thenReturn(Arrays.asList(department));
-        when(teacherService.getAllTeachers()).thenReturn(Arrays.asList(teacher));
-
         // Act & Assert
         mockMvc.perform(get("/courses/new"))
                 .andExpect(status().isOk())
                 .andExpect(view().name("courses/form"))
                 .andExpect(model().attributeExists("course"))
-                .andExpect(model().attributeExists("departments"))
-                .andExpect(model().attributeExists("teachers"));
-
-        verify(departmentService).getAllDepartments();
-        verify(teacherService).getAllTeachers();
+                .andExpect(model().attributeDoesNotExist("departments", "teachers"));
     }
 
     @Test
@@ -139,16 +154,14 @@ class CourseControllerTest {
     void testShowEditForm() throws Exception {
         // Arrange
         when(courseService.getCourseById(1L)).thenReturn(course);
-        when(departmentService.getAllDepartments()).thenReturn(Arrays.asList(department));
-        when(teacherService.getAllTeachers()).thenReturn(Arrays.asList(teacher));
 
         // Act & Assert
         mockMvc.perform(get("/courses/1/edit"))
                 .andExpect(status().isOk())
                 .andExpect(view().name("courses/form"))
                 .andExpect(model().attribute("course", hasProperty("id", is(1L))))
-                .andExpect(model().attributeExists("departments"))
-                .andExpect(model().attributeExists("teachers"));
+                .andExpect(model().attributeDoesNotExist("departments", "teachers"))
+                .andExpect(content().string(containsString("Computer Science")));
 
         verify(courseService).getCourseById(1L);
     }
@@ -0,0 +1,102 @@
+package com.sms.controller;
+
+import com.sms.config.TestSecurityConfig;
+import com.sms.search.DocumentType;
+import com.sms.search.SearchIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(LookupController.class)
+@Import({TestSecurityConfig.class, SearchIndex.class})
+@DisplayName("LookupController Unit Tests")
+class LookupControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        searchIndex.put(DocumentType.DEPARTMENT, 1L, "Mathematics", "Mathematics");
+        searchIndex.put(DocumentType.DEPARTMENT, 2L, "Applied Math", "Applied Math");
+        searchIndex.put(DocumentType.DEPARTMENT, 3L, "Physics", "Physics");
+        searchIndex.put(DocumentType.TEACHER, 1L, "Maths Teacher (EMP001)", "Maths", "Teacher", "EMP001");
+    }
+
+    @Test
+    @WithMockUser(roles = "STUDENT")
+    @DisplayName("Should return departments as id and label, exact matches before prefix matches")
+    void testDepartmentLookup() throws Exception {
+        mockMvc.perform(get("/api/lookup/departments").param("q", "math"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].id").value(2))
+                .andExpect(jsonPath("$[0].label").value("Applied Math"))
+                .andExpect(jsonPath("$[1].id").value(1))
+                .andExpect(jsonPath("$[1].label").value("Mathematics"))
+                .andExpect(jsonPath("$[*]", everyItem(aMapWithSize(2))));
+    }
+
+    @Test
+    @WithMockUser(roles = "TEACHER")
+    @DisplayName("Should return only teachers from the teacher lookup")
+    void testTeacherLookup() throws Exception {
+        mockMvc.perform(get("/api/lookup/teachers").param("q", "math"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id").value(1))
+                .andExpect(jsonPath("$[0].label").value("Maths Teacher (EMP001)"));
+    }
+
+    @Test
+    @WithMockUser(roles = "TEACHER")
+    @DisplayName("Should return at most the requested number of options, ten by default and fifty at most")
+    void testLookupLimit() throws Exception {
+        for (long id = 100; id < 160; id++) {
+            searchIndex.put(DocumentType.DEPARTMENT, id, "Department " + id, "Department " + id);
+        }
+
+        mockMvc.perform(get("/api/lookup/departments").param("q", "department"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(10)))
+                .andExpect(jsonPath("$[0].id").value(100));
+        mockMvc.perform(get("/api/lookup/departments").param("q", "department").param("limit", "3"))
+                .andExpect(jsonPath("$", hasSize(3)))
+                .andExpect(jsonPath("$[*].id", contains(100, 101, 102)));
+        mockMvc.perform(get("/api/lookup/departments").param("q", "department").param("limit", "500"))
+                .andExpect(jsonPath("$", hasSize(SearchIndex.MAX_RESULTS)));
+    }
+
+    @Test
+    @WithMockUser(roles = "TEACHER")
+    @DisplayName("Should return no options for a missing, empty or blank query")
+    void testLookupWithoutQuery() throws Exception {
+        mockMvc.perform(get("/api/lookup/departments"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+        mockMvc.perform(get("/api/lookup/departments").param("q", ""))
+                .andExpect(jsonPath("$", hasSize(0)));
+        mockMvc.perform(get("/api/lookup/teachers").param("q", "   "))
+                .andExpect(jsonPath("$", hasSize(0)));
+    }
+
+    @Test
+    @DisplayName("Should redirect to login when not authenticated")
+    void testLookupRequiresAuthentication() throws Exception {
+        mockMvc.perform(get("/api/lookup/departments").param("q", "math"))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(redirectedUrlPattern("**/login"));
+    }
+}
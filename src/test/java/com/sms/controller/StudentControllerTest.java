@@ -1,10 +1,13 @@
 package com.sms.controller;
 
 import com.sms.config.TestSecurityConfig;
+import com.sms.dto.StudentSummary;
 import com.sms.entity.Department;
 import com.sms.entity.Student;
 import com.sms.entity.User;
-import com.sms.service.DepartmentService;
+import com.sms.repository.KeysetRequest;
+import com.sms.repository.KeysetSlice;
+import com.sms.service.StudentImportService;
 import com.sms.service.StudentService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -23,6 +26,7 @@ import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -41,7 +45,7 @@ class StudentControllerTest {
     private StudentService studentService;
 
     @MockBean
-    private DepartmentService departmentService;
+    private StudentImportService studentImportService;
 
     private Student student;
     private Department department;
@@ -75,39 +79,34 @@ class StudentControllerTest {
     @DisplayName("Should display list of students")
     void testListStudents() throws Exception {
         // Arrange
-        when(studentService.getAllStudents()).thenReturn(students);
+        StudentSummary summary = new StudentSummary(1L, "STU001", "John", "Doe", "john.doe@example.com",
+                "Computer Science");
+        when(studentService.getStudentSlice(any(KeysetRequest.class)))
+                .thenReturn(new KeysetSlice<>(List.of(summary), KeysetRequest.of("lastName", "asc", 25, null, null),
+                        false, false, null, null));
 
         // Act & Assert
         mockMvc.perform(get("/students"))
                 .andExpect(status().isOk())
                 .andExpect(view().name("students/list"))
-                .andExpect(model().attribute("students", hasSize(1)))
-                .andExpect(model().attribute("students", hasItem(
-                        allOf(
-                                hasProperty("id", is(1L)),
-                                hasProperty("firstName", is("John")),
-                                hasProperty("lastName", is("Doe"))
-                        )
-                )));
-
-        verify(studentService).getAllStudents();
+                .andExpect(model().attribute("students", contains(summary)))
+                .andExpect(content().string(containsString("Computer Science")))
+                .andExpect(model().attributeExists("page"));
+
+        verify(studentService).getStudentSlice(argThat(request ->
+                request.sort().equals("lastName") && request.size() == 25 && request.cursor() == null));
     }
 
     @Test
     @WithMockUser(roles = "TEACHER")
     @DisplayName("Should show create student form")
     void testShowCreateForm() throws Exception {
-        // Arrange
-        when(departmentService.getAllDepartments()).thenReturn(Arrays.asList(department));
-
         // Act & Assert
         mockMvc.perform(get("/students/new"))
                 .andExpect(status().isOk())
                 .andExpect(view().name("students/form"))
                 .andExpect(model().attributeExists("student"))
-                .andExpect(model().attributeExists("departments"));
-
-        verify(departmentService).getAllDepartments();
+                .andExpect(model().attributeDoesNotExist("departments"));
     }
 
     @Test
@@ -140,8 +139,6 @@ class StudentControllerTest {
         // Act & Assert
         mockMvc.perform(get("/students/new"))
                 .andExpect(status().isForbidden());
-
-        verify(departmentService, never()).getAllDepartments();
     }
 
     @Test
@@ -150,17 +147,16 @@ class StudentControllerTest {
     void testShowEditForm() throws Exception {
         // Arrange
         when(studentService.getStudentById(1L)).thenReturn(student);
-        when(departmentService.getAllDepartments()).thenReturn(Arrays.asList(department));
 
         // Act & Assert
         mockMvc.perform(get("/students/1/edit"))
                 .andExpect(status().isOk())
                 .andExpect(view().name("students/form"))
                 .andExpect(model().attribute("student", hasProperty("id", is(1L))))
-                .andExpect(model().attributeExists("departments"));
+                .andExpect(model().attributeDoesNotExist("departments"))
+                .andExpect(content().string(containsString("Computer Science")));
 
         verify(studentService).getStudentById(1L);
-        verify(departmentService).getAllDepartments();
     }
 
     @Test
@@ -176,7 +172,6 @@ class StudentControllerTest {
                 .andExpect(redirectedUrl("/students"));
 
         verify(studentService).getStudentById(99L);
-        verify(departmentService, never()).getAllDepartments();
     }
 
     @Test
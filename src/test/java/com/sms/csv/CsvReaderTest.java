@@ -0,0 +1,64 @@
+package com.sms.csv;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CsvReader Unit Tests")
+class CsvReaderTest {
+
+    @Test
+    @DisplayName("Should read plain and quoted fields")
+    void testQuotedFields() throws IOException {
+        List<List<String>> records = readAll("a,\"b,c\",\"say \"\"hi\"\"\"\r\n1,,3\n");
+
+        assertThat(records).containsExactly(
+                List.of("a", "b,c", "say \"hi\""),
+                List.of("1", "", "3"));
+    }
+
+    @Test
+    @DisplayName("Should keep line breaks inside quotes and report record lines")
+    void testMultilineRecord() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("h1,h2\n\"line1\nline2\",x\r\n\nlast,y"));
+
+        assertThat(reader.next()).containsExactly("h1", "h2");
+        assertThat(reader.next()).containsExactly("line1\nline2", "x");
+        assertThat(reader.getRecordLine()).isEqualTo(2);
+        assertThat(reader.next()).containsExactly("last", "y");
+        assertThat(reader.getRecordLine()).isEqualTo(5);
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should skip a byte order mark")
+    void testByteOrderMark() throws IOException {
+        assertThat(readAll("\uFEFFstudentId,email\n")).containsExactly(List.of("studentId", "email"));
+    }
+
+    @Test
+    @DisplayName("Should reject an unterminated quoted field")
+    void testUnterminatedQuote() {
+        assertThatThrownBy(() -> readAll("a,\"open\n"))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("line 1");
+    }
+
+    private static List<List<String>> readAll(String csv) throws IOException {
+        List<List<String>> records = new ArrayList<>();
+        try (CsvReader reader = new CsvReader(new StringReader(csv))) {
+            List<String> record;
+            while ((record = reader.next()) != null) {
+                records.add(List.copyOf(record));
+            }
+        }
+        return records;
+    }
+}
@@ -0,0 +1,38 @@
+package com.sms.integration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.greaterThan;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "management.endpoints.web.exposure.include=concurrency")
+@AutoConfigureMockMvc
+@DisplayName("Concurrency Limit Integration Tests")
+class ConcurrencyLimitIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @WithMockUser(roles = "TEACHER")
+    @DisplayName("Integration: Should publish the concurrency limit and shed counts through actuator")
+    void testConcurrencyEndpoint() throws Exception {
+        mockMvc.perform(get("/students"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/concurrency"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.limit").value(greaterThan(0)))
+                .andExpect(jsonPath("$.inflight").value(0))
+                .andExpect(jsonPath("$.rejectedNormal").value(0))
+                .andExpect(jsonPath("$.recentChanges").isArray());
+    }
+}
@@ -0,0 +1,184 @@
+package com.sms.integration;
+
+import com.sms.entity.Course;
+import com.sms.entity.Department;
+import com.sms.entity.Student;
+import com.sms.service.CourseService;
+import com.sms.service.DashboardStatistics;
+import com.sms.service.DashboardStatistics.CourseRow;
+import com.sms.service.DashboardStatistics.DepartmentRow;
+import com.sms.service.DashboardStatistics.Snapshot;
+import com.sms.service.DepartmentService;
+import com.sms.service.EnrollmentService;
+import com.sms.service.StudentService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("Dashboard Integration Tests")
+class DashboardIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DashboardStatistics dashboardStatistics;
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Department department;
+    private Department otherDepartment;
+    private Course otherCourse;
+    private Student student;
+
+    @AfterEach
+    void tearDown() {
+        if (otherCourse != null) {
+            courseService.deleteCourse(otherCourse.getId());
+        }
+        if (otherDepartment != null) {
+            departmentService.deleteDepartment(otherDepartment.getId());
+        }
+        if (student != null) {
+            studentService.deleteStudent(student.getId());
+        }
+        if (department != null) {
+            departmentService.deleteDepartment(department.getId());
+        }
+    }
+
+    @Test
+    @WithMockUser(roles = "TEACHER")
+    @DisplayName("Integration: Should count committed writes and ignore rolled back ones")
+    void testCountersFollowCommittedWrites() throws Exception {
+        department = departmentService.createDepartment(department("Statistics"));
+        long students = dashboardStatistics.snapshot().students();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            studentService.createStudent(student("DSH002", department));
+            status.setRollbackOnly();
+        });
+        Assertions.assertEquals(students, dashboardStatistics.snapshot().students());
+
+        student = studentService.createStudent(student("DSH001", department));
+        Assertions.assertEquals(students + 1, dashboardStatistics.snapshot().students());
+        Assertions.assertTrue(dashboardStatistics.snapshot().departments()
+                .contains(new DepartmentRow(department.getId(), "Statistics", 1, 0, 0)));
+
+        dashboardStatistics.reconcile();
+        Assertions.assertEquals(students + 1, dashboardStatistics.snapshot().students());
+        mockMvc.perform(get("/dashboard"))
+                .andExpect(status().isOk())
+                .andExpect(model().attributeExists("stats"))
+                .andExpect(content().string(containsString("Statistics")));
+    }
+
+    @Test
+    @DisplayName("Integration: Should drop the enrollments of a deleted student")
+    void testStudentDeleteUpdatesEnrollments() {
+        department = departmentService.createDepartment(department("Enrollment Statistics"));
+        Course course = courseService.createCourse(course("DSH-E1", department));
+        otherCourse = courseService.createCourse(course("DSH-E2", department));
+        Student enrolled = studentService.createStudent(student("DSH003", department));
+        enrollmentService.enroll(enrolled.getId(), course.getId());
+        enrollmentService.enroll(enrolled.getId(), otherCourse.getId());
+        long enrollments = dashboardStatistics.snapshot().enrollments();
+
+        studentService.deleteStudent(enrolled.getId());
+
+        Snapshot snapshot = dashboardStatistics.snapshot();
+        Assertions.assertEquals(enrollments - 2, snapshot.enrollments());
+        Assertions.assertEquals(0, enrolled(snapshot, course.getId()));
+        assertMatchesDatabase(snapshot);
+        courseService.deleteCourse(course.getId());
+    }
+
+    @Test
+    @DisplayName("Integration: Should drop cascaded courses and enrollments when a department is deleted")
+    void testDepartmentDeleteUpdatesCoursesAndEnrollments() {
+        otherDepartment = departmentService.createDepartment(department("Other Statistics"));
+        otherCourse = courseService.createCourse(course("DSH-O1", otherDepartment));
+        Department deleted = departmentService.createDepartment(department("Deleted Statistics"));
+        Course cascaded = courseService.createCourse(course("DSH-D1", deleted));
+        Student cascadedStudent = studentService.createStudent(student("DSH004", deleted));
+        enrollmentService.enroll(cascadedStudent.getId(), cascaded.getId());
+        enrollmentService.enroll(cascadedStudent.getId(), otherCourse.getId());
+        long enrollments = dashboardStatistics.snapshot().enrollments();
+        Assertions.assertEquals(1, enrolled(dashboardStatistics.snapshot(), cascaded.getId()));
+
+        departmentService.deleteDepartment(deleted.getId());
+
+        Snapshot snapshot = dashboardStatistics.snapshot();
+        Assertions.assertEquals(enrollments - 2, snapshot.enrollments());
+        Assertions.assertEquals(0, enrolled(snapshot, otherCourse.getId()));
+        Assertions.assertTrue(snapshot.topCourses().stream().noneMatch(row -> row.id().equals(cascaded.getId())));
+        assertMatchesDatabase(snapshot);
+    }
+
+    private void assertMatchesDatabase(Snapshot snapshot) {
+        dashboardStatistics.reconcile();
+        Snapshot reloaded = dashboardStatistics.snapshot();
+        Assertions.assertEquals(reloaded.enrollments(), snapshot.enrollments());
+        Assertions.assertEquals(reloaded.courses(), snapshot.courses());
+        Assertions.assertEquals(reloaded.topCourses(), snapshot.topCourses());
+    }
+
+    private static long enrolled(Snapshot snapshot, Long courseId) {
+        return snapshot.topCourses().stream()
+                .filter(row -> row.id().equals(courseId))
+                .mapToLong(CourseRow::enrolled)
+                .findFirst()
+                .orElse(0);
+    }
+
+    private static Department department(String name) {
+        Department department = new Department();
+        department.setName(name);
+        return department;
+    }
+
+    private static Course course(String code, Department department) {
+        Course course = new Course();
+        course.setCode(code);
+        course.setName("Dashboard " + code);
+        course.setCredits(3);
+        course.setDepartment(department);
+        return course;
+    }
+
+    private static Student student(String studentId, Department department) {
+        Student student = new Student();
+        student.setStudentId(studentId);
+        student.setFirstName("Dash");
+        student.setLastName("Board");
+        student.setEmail(studentId.toLowerCase() + "@example.com");
+        student.setDepartment(department);
+        return student;
+    }
+}
@@ -0,0 +1,123 @@
+package com.sms.integration;
+
+import com.sms.entity.Student;
+import com.sms.entity.User;
+import com.sms.service.PasswordHashingService;
+import com.sms.service.StudentService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doAnswer;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("Database Request Metrics Integration Tests")
+class DatabaseMetricsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private StudentService studentService;
+
+    @SpyBean
+    private PasswordHashingService passwordHashingService;
+
+    @Test
+    @WithMockUser(roles = "TEACHER")
+    @DisplayName("Integration: Should record connection hold time and query time per request")
+    void testConnectionHoldAndQueryTimeRecorded() throws Exception {
+        mockMvc.perform(get("/students"))
+                .andExpect(status().isOk());
+
+        Timer hold = meterRegistry.find("sms.db.connection.hold").tag("uri", "/students").timer();
+        Timer query = meterRegistry.find("sms.db.query").tag("uri", "/students").timer();
+        Assertions.assertNotNull(hold);
+        Assertions.assertNotNull(query);
+        Assertions.assertTrue(hold.count() >= 1);
+        Assertions.assertTrue(query.totalTime(TimeUnit.NANOSECONDS) > 0);
+        Assertions.assertTrue(hold.totalTime(TimeUnit.NANOSECONDS) >= query.totalTime(TimeUnit.NANOSECONDS));
+    }
+
+    @Test
+    @WithMockUser(roles = "TEACHER")
+    @DisplayName("Integration: Should record statement counts per controller method without flagging N+1")
+    void testStatementCountRecordedPerHandler() throws Exception {
+        mockMvc.perform(get("/courses"))
+                .andExpect(status().isOk());
+
+        DistributionSummary statements = meterRegistry.find("sms.db.statements")
+                .tags("uri", "/courses", "handler", "CourseController#listCourses")
+                .summary();
+        Assertions.assertNotNull(statements);
+        Assertions.assertTrue(statements.totalAmount() >= 1);
+        Assertions.assertNull(meterRegistry.find("sms.db.repeated.selects").tag("uri", "/courses").counter());
+    }
+
+    @Test
+    @DisplayName("Integration: Should route transactional service calls through the database bulkhead")
+    void testServiceCallsPassBulkhead() {
+        FunctionTimer waits = meterRegistry.find("sms.db.bulkhead.wait").tag("route", "primary").functionTimer();
+        Assertions.assertNotNull(waits);
+        double before = waits.count();
+
+        studentService.getStudentById(-1L);
+
+        Assertions.assertEquals(before + 1, waits.count());
+    }
+
+    @Test
+    @DisplayName("Integration: Should not hold a database permit while a create batch hashes passwords")
+    void testCreateBatchHashesWithoutPermit() {
+        double permits = meterRegistry.get("sms.db.bulkhead.available").tag("route", "primary").gauge().value();
+        FunctionTimer waits = meterRegistry.get("sms.db.bulkhead.wait").tag("route", "primary").functionTimer();
+        double before = waits.count();
+        AtomicReference<Double> freeWhileHashing = new AtomicReference<>();
+        doAnswer(invocation -> {
+            freeWhileHashing.set(meterRegistry.get("sms.db.bulkhead.available").tag("route", "primary")
+                    .gauge().value());
+            return invocation.callRealMethod();
+        }).when(passwordHashingService).encodePasswords(anyCollection());
+
+        User user = new User();
+        user.setUsername("bulkhead.batch");
+        user.setPassword("secret");
+        Student student = new Student();
+        student.setStudentId("BULK001");
+        student.setFirstName("Batch");
+        student.setLastName("Student");
+        student.setEmail("bulkhead.batch@example.com");
+        student.setUser(user);
+        Student saved = studentService.createStudents(List.of(student)).get(0);
+
+        try {
+            Assertions.assertEquals(permits, freeWhileHashing.get());
+            // Only the transaction that saves the batch took a permit
+            Assertions.assertEquals(before + 1, waits.count());
+        } finally {
+            studentService.deleteStudent(saved.getId());
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.sms.integration;
+
+import com.sms.entity.Course;
+import com.sms.entity.Student;
+import com.sms.repository.CourseRepository;
+import com.sms.repository.StudentRepository;
+import com.sms.service.CourseService;
+import com.sms.service.EnrollmentService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+@SpringBootTest
+@DisplayName("Enrollment Concurrency Integration Tests")
+class EnrollmentConcurrencyIntegrationTest {
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Student student;
+    private Course course;
+
+    @BeforeEach
+    void setUp() {
+        student = new Student();
+        student.setStudentId("ENRC01");
+        student.setFirstName("Racing");
+        student.setLastName("Enrollment");
+        student.setEmail("racing.enrollment@example.com");
+        student = studentRepository.save(student);
+        course = new Course();
+        course.setCode("ENRC101");
+        course.setName("Concurrent Enrollment");
+        course = courseRepository.save(course);
+    }
+
+    @AfterEach
+    void tearDown() {
+        courseService.deleteCourse(course.getId());
+        studentRepository.deleteById(student.getId());
+    }
+
+    @Test
+    @DisplayName("Integration: Should enroll once when two enrollments of the same student race")
+    void testConcurrentEnrollmentOfSameStudent() throws Exception {
+        CountDownLatch inserted = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<Boolean> first = executor.submit(() -> transactionTemplate.execute(status -> {
+                boolean enrolled = enrollmentService.enroll(student.getId(), course.getId());
+                inserted.countDown();
+                // Keep the row uncommitted while the second enrollment checks for it and inserts its own
+                sleep(500);
+                return enrolled;
+            }));
+            Assertions.assertTrue(inserted.await(10, TimeUnit.SECONDS));
+            Future<Boolean> second = executor.submit(() -> enrollmentService.enroll(student.getId(), course.getId()));
+
+            Assertions.assertTrue(first.get(10, TimeUnit.SECONDS));
+            Assertions.assertFalse(second.get(10, TimeUnit.SECONDS));
+        }
+        Assertions.assertEquals(1, jdbcTemplate.queryForObject(
+                "select count(*) from student_courses where course_id = ?", Long.class, course.getId()));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.sms.integration;
+
+import com.sms.dto.CourseEnrollmentCount;
+import com.sms.entity.Course;
+import com.sms.entity.Student;
+import com.sms.entity.Teacher;
+import com.sms.repository.CourseRepository;
+import com.sms.repository.StudentRepository;
+import com.sms.repository.TeacherRepository;
+import com.sms.service.CourseService;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+@DisplayName("Enrollment Integration Tests")
+class EnrollmentIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private TeacherRepository teacherRepository;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Student first;
+    private Student second;
+    private Course course;
+
+    @BeforeEach
+    void setUp() {
+        first = studentRepository.save(student("ENR001"));
+        second = studentRepository.save(student("ENR002"));
+        course = new Course();
+        course.setCode("ENR101");
+        course.setName("Enrollment Basics");
+        course = courseRepository.save(course);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @WithMockUser(roles = "TEACHER")
+    @DisplayName("Integration: Should enroll and unenroll without duplicates")
+    void testEnrollAndUnenroll() throws Exception {
+        String enrollment = "/api/courses/" + course.getId() + "/enrollments";
+        Student loaded = studentRepository.findById(first.getId()).orElseThrow();
+
+        mockMvc.perform(put(enrollment + "/" + first.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed").value(1));
+        mockMvc.perform(put(enrollment + "/" + first.getId()))
+                .andExpect(jsonPath("$.changed").value(0));
+
+        mockMvc.perform(post(enrollment)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[" + first.getId() + ", " + second.getId() + ", -1]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.requested").value(3))
+                .andExpect(jsonPath("$.changed").value(1));
+        Assertions.assertEquals(2, enrolled());
+        Assertions.assertFalse(Hibernate.isInitialized(loaded.getCourses()));
+
+        mockMvc.perform(delete(enrollment + "/" + second.getId()))
+                .andExpect(jsonPath("$.changed").value(1));
+        mockMvc.perform(delete(enrollment)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[" + first.getId() + ", " + second.getId() + "]"))
+                .andExpect(jsonPath("$.changed").value(1));
+        Assertions.assertEquals(0, enrolled());
+    }
+
+    @Test
+    @WithMockUser(roles = "STUDENT")
+    @DisplayName("Integration: Should deny enrollment changes to students")
+    void testEnroll_AccessDenied() throws Exception {
+        mockMvc.perform(put("/api/courses/" + course.getId() + "/enrollments/" + first.getId()))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser(roles = "STUDENT")
+    @DisplayName("Integration: Should page the roster and count enrollments without loading collections")
+    void testRosterAndEnrollmentCounts() throws Exception {
+        Teacher teacher = new Teacher();
+        teacher.setEmployeeId("ENRT01");
+        teacher.setFirstName("Roster");
+        teacher.setLastName("Keeper");
+        teacher.setEmail("roster.keeper@example.com");
+        teacher = teacherRepository.save(teacher);
+        Course loaded = courseRepository.findById(course.getId()).orElseThrow();
+        loaded.setTeacher(teacher);
+        entityManager.flush();
+        studentRepository.enroll(List.of(first.getId(), second.getId()), course.getId());
+
+        mockMvc.perform(get("/courses/" + course.getId()).param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("enrolledCount", 2L))
+                .andExpect(model().attribute("students", hasSize(1)))
+                .andExpect(model().attribute("page", hasProperty("nextCursor", notNullValue())));
+        mockMvc.perform(get("/teachers/" + teacher.getId()))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("courses", contains(
+                        new CourseEnrollmentCount(course.getId(), "ENR101", "Enrollment Basics", null, 2L))));
+        Assertions.assertFalse(Hibernate.isInitialized(loaded.getStudents()));
+    }
+
+    @Test
+    @DisplayName("Integration: Should delete a course that has enrolled students")
+    void testDeleteEnrolledCourse() {
+        studentRepository.enroll(List.of(first.getId()), course.getId());
+
+        courseService.deleteCourse(course.getId());
+        entityManager.flush();
+
+        Assertions.assertEquals(0, enrolled());
+        Assertions.assertTrue(courseRepository.findById(course.getId()).isEmpty());
+    }
+
+    private long enrolled() {
+        return ((Number) entityManager.createNativeQuery("select count(*) from student_courses where course_id = ?1")
+                .setParameter(1, course.getId())
+                .getSingleResult()).longValue();
+    }
+
+    private static Student student(String studentId) {
+        Student student = new Student();
+        student.setStudentId(studentId);
+        student.setFirstName("Enrolled");
+        student.setLastName(studentId);
+        student.setEmail(studentId.toLowerCase() + "@example.com");
+        return student;
+    }
+}
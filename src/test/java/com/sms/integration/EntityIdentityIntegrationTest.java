@@ -0,0 +1,154 @@
+package com.sms.integration;
+
+import com.sms.entity.Course;
+import com.sms.entity.Department;
+import com.sms.entity.Student;
+import com.sms.entity.Teacher;
+import com.sms.repository.CourseRepository;
+import com.sms.repository.DepartmentRepository;
+import com.sms.repository.StudentRepository;
+import com.sms.repository.TeacherRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@SpringBootTest
+@Transactional
+@DisplayName("Entity Identity Integration Tests")
+class EntityIdentityIntegrationTest {
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private TeacherRepository teacherRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+    private Long studentId;
+    private Long teacherId;
+    private Long courseId;
+    private Long departmentId;
+
+    @BeforeEach
+    void setUp() {
+        Department department = new Department();
+        department.setName("Identity Department");
+        department = departmentRepository.save(department);
+
+        Teacher teacher = new Teacher();
+        teacher.setEmployeeId("ID-T001");
+        teacher.setFirstName("Ada");
+        teacher.setLastName("Lovelace");
+        teacher.setEmail("ada.identity@example.com");
+        teacher.setDepartment(department);
+        teacher = teacherRepository.save(teacher);
+
+        Course course = new Course();
+        course.setCode("ID101");
+        course.setName("Identity");
+        course.setCredits(3);
+        course.setDepartment(department);
+        course.setTeacher(teacher);
+        course = courseRepository.save(course);
+
+        Student student = new Student();
+        student.setStudentId("ID-S001");
+        student.setFirstName("Alan");
+        student.setLastName("Turing");
+        student.setEmail("alan.identity@example.com");
+        student.setDepartment(department);
+        student.getCourses().add(course);
+        student = studentRepository.save(student);
+
+        entityManager.flush();
+        entityManager.clear();
+        studentId = student.getId();
+        teacherId = teacher.getId();
+        courseId = course.getId();
+        departmentId = department.getId();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        statistics.setStatisticsEnabled(false);
+    }
+
+    @Test
+    @DisplayName("Integration: Should hash, compare and print entities without loading their associations")
+    void testIdentityAndToStringFireNoStatements() {
+        Student student = studentRepository.findById(studentId).orElseThrow();
+        Teacher teacher = teacherRepository.findById(teacherId).orElseThrow();
+        Course course = courseRepository.findById(courseId).orElseThrow();
+        Department department = departmentRepository.findById(departmentId).orElseThrow();
+        statistics.clear();
+
+        Set<Object> entities = new HashSet<>(List.of(student, teacher, course, department));
+        String printed = String.valueOf(entities);
+
+        Assertions.assertEquals(0, statistics.getPrepareStatementCount());
+        Assertions.assertEquals(4, entities.size());
+        Assertions.assertTrue(printed.contains("ID-S001"));
+        Assertions.assertFalse(Hibernate.isInitialized(student.getCourses()));
+        Assertions.assertFalse(Hibernate.isInitialized(course.getStudents()));
+        Assertions.assertFalse(Hibernate.isInitialized(teacher.getCourses()));
+        Assertions.assertFalse(Hibernate.isInitialized(department.getStudents()));
+    }
+
+    @Test
+    @DisplayName("Integration: Should treat a lazy proxy and an entity with its id as the same element")
+    void testProxyEqualsEntityWithSameId() {
+        Student student = studentRepository.findById(studentId).orElseThrow();
+        Department proxy = student.getDepartment();
+        Department detached = new Department();
+        detached.setId(departmentId);
+
+        Assertions.assertEquals(detached, proxy);
+        Assertions.assertFalse(Hibernate.isInitialized(proxy));
+        statistics.clear();
+
+        // The proxy hands hashCode to the entity, which loads the department row but none of its collections
+        Set<Department> departments = new HashSet<>(Set.of(proxy));
+
+        Assertions.assertTrue(statistics.getPrepareStatementCount() <= 1);
+        Assertions.assertTrue(departments.contains(detached));
+        Assertions.assertEquals(proxy, detached);
+        Assertions.assertFalse(Hibernate.isInitialized(proxy.getStudents()));
+        Assertions.assertFalse(Hibernate.isInitialized(proxy.getCourses()));
+        Assertions.assertFalse(Hibernate.isInitialized(proxy.getTeachers()));
+    }
+
+    @Test
+    @DisplayName("Integration: Should keep an unsaved entity in a set after it is saved")
+    void testHashStableAcrossSave() {
+        Department department = new Department();
+        department.setName("Unsaved Department");
+        Set<Department> departments = new HashSet<>(Set.of(department));
+
+        departmentRepository.save(department);
+
+        Assertions.assertNotNull(department.getId());
+        Assertions.assertTrue(departments.contains(department));
+        Assertions.assertNotEquals(new Department(), new Department());
+    }
+}
@@ -0,0 +1,118 @@
+package com.sms.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sms.entity.Course;
+import com.sms.entity.Department;
+import com.sms.entity.Student;
+import com.sms.repository.CourseRepository;
+import com.sms.repository.DepartmentRepository;
+import com.sms.repository.StudentRepository;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+@DisplayName("Export Integration Tests")
+class ExportIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    private Department computerScience;
+
+    @BeforeEach
+    void setUp() {
+        computerScience = department("Computer Science");
+        Department mathematics = department("Mathematics");
+        student("STU001", "Ada", "Lovelace, Countess", computerScience);
+        student("STU002", "Alan", "Turing", mathematics);
+
+        Course course = new Course();
+        course.setCode("CS101");
+        course.setName("Introduction to \"Programming\"");
+        course.setCredits(3);
+        course.setDepartment(computerScience);
+        courseRepository.save(course);
+    }
+
+    @Test
+    @WithMockUser(roles = "TEACHER")
+    @DisplayName("Integration: Should export students of a department as CSV")
+    void testExportStudentsCsv() throws Exception {
+        String body = mockMvc.perform(get("/students/export")
+                        .param("format", "csv")
+                        .param("departmentId", computerScience.getId().toString()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andExpect(header().string("Content-Disposition", containsString("students.csv")))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\r\n");
+        Assertions.assertEquals(2, lines.length);
+        Assertions.assertEquals("id,studentId,firstName,lastName,email,phone,address,department,username", lines[0]);
+        Assertions.assertTrue(lines[1].contains("STU001,Ada,\"Lovelace, Countess\",stu001@example.com,,,Computer Science,"));
+    }
+
+    @Test
+    @WithMockUser(roles = "TEACHER")
+    @DisplayName("Integration: Should export courses as JSON")
+    void testExportCoursesJson() throws Exception {
+        String body = mockMvc.perform(get("/courses/export").param("format", "json"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/json"))
+                .andReturn().getResponse().getContentAsString();
+
+        JsonNode courses = objectMapper.readTree(body);
+        Assertions.assertEquals(1, courses.size());
+        Assertions.assertEquals("Introduction to \"Programming\"", courses.get(0).get("name").asText());
+        Assertions.assertEquals(3, courses.get(0).get("credits").asInt());
+        Assertions.assertEquals("Computer Science", courses.get(0).get("department").asText());
+    }
+
+    @Test
+    @WithMockUser(roles = "STUDENT")
+    @DisplayName("Integration: Should not let students export")
+    void testExportForbiddenForStudents() throws Exception {
+        mockMvc.perform(get("/students/export"))
+                .andExpect(status().is4xxClientError());
+    }
+
+    private Department department(String name) {
+        Department department = new Department();
+        department.setName(name);
+        return departmentRepository.save(department);
+    }
+
+    private void student(String studentId, String firstName, String lastName, Department department) {
+        Student student = new Student();
+        student.setStudentId(studentId);
+        student.setFirstName(firstName);
+        student.setLastName(lastName);
+        student.setEmail(studentId.toLowerCase() + "@example.com");
+        student.setDepartment(department);
+        studentRepository.save(student);
+    }
+}
@@ -0,0 +1,104 @@
+package com.sms.integration;
+
+import com.sms.config.LoadTestDataSeeder;
+import com.sms.entity.Department;
+import com.sms.repository.DepartmentRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+@SpringBootTest
+@DisplayName("Load-Test Data Seeder Integration Tests")
+class LoadTestDataSeederIntegrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from student_courses where student_id in "
+                + "(select id from students where student_id like 'LT-S%')");
+        jdbcTemplate.update("delete from students where student_id like 'LT-S%'");
+        jdbcTemplate.update("delete from courses where code like 'LT-C%'");
+        jdbcTemplate.update("delete from teachers where employee_id like 'LT-T%'");
+        jdbcTemplate.update("delete from users where username like '%@loadtest.example.com'");
+        jdbcTemplate.update("delete from departments where description = 'Generated load-test department'");
+        jdbcTemplate.update("delete from departments where name = 'After Seeding'");
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    @DisplayName("Integration: Should generate the configured volumes once and only fill in missing rows on rerun")
+    void testSeedIsIdempotent() {
+        seeder(150).run(null);
+        seeder(150).run(null);
+
+        Assertions.assertEquals(3, count("select count(*) from departments where description like 'Generated%'"));
+        Assertions.assertEquals(10, count("select count(*) from teachers where employee_id like 'LT-T%'"));
+        Assertions.assertEquals(20, count("select count(*) from courses where code like 'LT-C%'"));
+        Assertions.assertEquals(150, count("select count(*) from students where student_id like 'LT-S%'"));
+        Assertions.assertEquals(160, count("select count(*) from users where username like '%@loadtest.example.com'"));
+        Assertions.assertEquals(450, count("select count(*) from student_courses where student_id in "
+                + "(select id from students where student_id like 'LT-S%')"));
+
+        // Generated ids come from the entity sequences, so the application keeps inserting without collisions
+        Department department = new Department();
+        department.setName("After Seeding");
+        Assertions.assertNotNull(departmentRepository.saveAndFlush(department).getId());
+    }
+
+    @Test
+    @DisplayName("Integration: Should generate the same rows from the same seed and resume an interrupted run")
+    void testSeedIsDeterministic() {
+        seeder(120).run(null);
+        List<Map<String, Object>> generated = students();
+
+        jdbcTemplate.update("delete from student_courses where student_id in "
+                + "(select id from students where student_id > 'LT-S0000050' and student_id like 'LT-S%')");
+        jdbcTemplate.update("delete from students where student_id > 'LT-S0000050' and student_id like 'LT-S%'");
+        jdbcTemplate.update("delete from users where username like 'student%@loadtest.example.com' "
+                + "and id not in (select user_id from students where user_id is not null)");
+        seeder(120).run(null);
+
+        Assertions.assertEquals(generated, students());
+    }
+
+    private LoadTestDataSeeder seeder(int students) {
+        return new LoadTestDataSeeder(jdbcTemplate, transactionTemplate, passwordEncoder, entityManagerFactory,
+                7, 3, 10, 20, students, 3, 40, "loadtest");
+    }
+
+    private List<Map<String, Object>> students() {
+        return jdbcTemplate.queryForList("select s.student_id, s.first_name, s.last_name, s.address, d.name, "
+                + "(select string_agg(c.code, ',' order by c.code) from student_courses sc "
+                + "join courses c on c.id = sc.course_id where sc.student_id = s.id) as courses "
+                + "from students s join departments d on d.id = s.department_id "
+                + "where s.student_id like 'LT-S%' order by s.student_id");
+    }
+
+    private int count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Integer.class);
+    }
+}
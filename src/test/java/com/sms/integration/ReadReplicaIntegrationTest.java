@@ -0,0 +1,88 @@
+package com.sms.integration;
+
+import com.sms.entity.Department;
+import com.sms.service.DepartmentService;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * Runs against two separate in-memory H2 databases, so what a call reads shows where it was routed: the
+ * replica only holds the rows written to it directly.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1",
+        "sms.datasource.replica.url=jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1;INIT=RUNSCRIPT FROM 'classpath:replica-schema.sql'",
+        "sms.datasource.replica.username=sa",
+        "sms.datasource.replica.hikari.connection-timeout=250"
+})
+@DisplayName("Read Replica Routing Integration Tests")
+class ReadReplicaIntegrationTest {
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @BeforeEach
+    void setUp() {
+        JdbcTemplate replica = new JdbcTemplate(replicaDataSource);
+        replica.update("delete from departments");
+        replica.update("insert into departments (id, name, description) values (1, 'Replica One', null)");
+        replica.update("insert into departments (id, name, description) values (2, 'Replica Two', null)");
+    }
+
+    @Test
+    @DisplayName("Integration: Should write to the primary and read through read-only transactions from the replica")
+    void testReadsGoToReplica() {
+        double writes = routed("write", "primary");
+        double reads = routed("read", "replica");
+
+        Department department = new Department();
+        department.setName("Written To Primary");
+        departmentService.createDepartment(department);
+
+        Assertions.assertEquals(1, new JdbcTemplate(primaryDataSource).queryForObject(
+                "select count(*) from departments where name = 'Written To Primary'", Integer.class));
+        Assertions.assertEquals(2, departmentService.countDepartments());
+        Assertions.assertTrue(routed("write", "primary") > writes);
+        Assertions.assertTrue(routed("read", "replica") > reads);
+    }
+
+    @Test
+    @DirtiesContext
+    @DisplayName("Integration: Should fall back to the primary when the replica is unavailable")
+    void testFallsBackToPrimary() throws SQLException {
+        long primaryCount = new JdbcTemplate(primaryDataSource).queryForObject("select count(*) from departments",
+                Long.class);
+        replicaDataSource.unwrap(HikariDataSource.class).close();
+
+        Assertions.assertEquals(primaryCount, departmentService.countDepartments());
+        Assertions.assertEquals(1, routed("read", "primary"));
+    }
+
+    private double routed(String route, String database) {
+        return meterRegistry.get("sms.db.routed.connections").tags("route", route, "database", database)
+                .functionCounter().count();
+    }
+}
@@ -0,0 +1,68 @@
+package com.sms.integration;
+
+import com.sms.entity.Department;
+import com.sms.service.DepartmentService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+@DisplayName("Reference Data Cache Integration Tests")
+class ReferenceDataCacheIntegrationTest {
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Department department;
+
+    @AfterEach
+    void tearDown() {
+        if (department != null) {
+            departmentService.deleteDepartment(department.getId());
+        }
+    }
+
+    @Test
+    @DisplayName("Integration: Should serve department lists from the cache and refresh them after a write")
+    void testDepartmentListCachedAndInvalidated() {
+        department = new Department();
+        department.setName("Cached Department");
+        department = departmentService.createDepartment(department);
+        entityManagerFactory.getCache().evictAll();
+
+        double hitsBefore = hits("reference-queries");
+        departmentService.getAllDepartments();
+        departmentService.getAllDepartments();
+        Assertions.assertEquals(hitsBefore + 1, hits("reference-queries"));
+        Assertions.assertTrue(entityManagerFactory.getCache().contains(Department.class, department.getId()));
+
+        department.setName("Renamed Department");
+        departmentService.updateDepartment(department.getId(), department);
+
+        Assertions.assertTrue(departmentService.getAllDepartments().stream()
+                .anyMatch(d -> d.getName().equals("Renamed Department")));
+        Assertions.assertEquals("Renamed Department",
+                departmentService.getDepartmentById(department.getId()).getName());
+    }
+
+    private double hits(String region) {
+        FunctionCounter counter = meterRegistry.find("cache.gets")
+                .tag("cache", region)
+                .tag("result", "hit")
+                .functionCounter();
+        Assertions.assertNotNull(counter);
+        return counter.count();
+    }
+}
@@ -0,0 +1,118 @@
+package com.sms.integration;
+
+import com.sms.entity.Course;
+import com.sms.entity.Department;
+import com.sms.repository.CourseRepository;
+import com.sms.search.DocumentType;
+import com.sms.search.SearchIndex;
+import com.sms.service.CourseService;
+import com.sms.service.DepartmentService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Set;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("Search Index Integration Tests")
+class SearchIndexIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    private SearchIndex searchIndex;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void tearDown() {
+        courseRepository.findByCode("IDX101").ifPresent(course -> courseService.deleteCourse(course.getId()));
+    }
+
+    @Test
+    @WithMockUser(roles = "STUDENT")
+    @DisplayName("Integration: Should index committed writes and drop deleted entities")
+    void testIndexFollowsCommittedWrites() throws Exception {
+        Course course = courseService.createCourse(course("IDX101", "Indexed Structures"));
+
+        mockMvc.perform(get("/api/search").param("q", "indexed struct"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].type").value("COURSE"))
+                .andExpect(jsonPath("$[0].url").value("/courses/" + course.getId()))
+                .andExpect(jsonPath("$[0].label").value("IDX101 - Indexed Structures"));
+
+        course.setName("Inverted Indexes");
+        courseService.updateCourse(course.getId(), course);
+        Assertions.assertTrue(searchIndex.search("structures", 10).isEmpty());
+        Assertions.assertEquals(1, searchIndex.search("inverted idx101", 10).size());
+
+        courseService.deleteCourse(course.getId());
+        Assertions.assertTrue(searchIndex.search("idx101", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Integration: Should not index rolled back writes")
+    void testRolledBackWriteNotIndexed() {
+        transactionTemplate.executeWithoutResult(status -> {
+            courseService.createCourse(course("IDX101", "Rolled Back"));
+            courseRepository.flush();
+            status.setRollbackOnly();
+        });
+
+        Assertions.assertTrue(searchIndex.search("rolled back", 10).isEmpty());
+    }
+
+    @Test
+    @WithMockUser(roles = "TEACHER")
+    @DisplayName("Integration: Should answer department lookups with id and label only")
+    void testDepartmentLookup() throws Exception {
+        Department department = new Department();
+        department.setName("Lookup Sciences");
+        department.setDescription("Typeahead fixture");
+        department = departmentService.createDepartment(department);
+        try {
+            mockMvc.perform(get("/api/lookup/departments").param("q", "lookup sci"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(1)))
+                    .andExpect(jsonPath("$[0].id").value(department.getId()))
+                    .andExpect(jsonPath("$[0].label").value("Lookup Sciences"))
+                    .andExpect(jsonPath("$[0].url").doesNotExist());
+            Assertions.assertTrue(searchIndex.search("lookup", 10).isEmpty());
+        } finally {
+            departmentService.deleteDepartment(department.getId());
+        }
+        Assertions.assertTrue(searchIndex.search("lookup", Set.of(DocumentType.DEPARTMENT), 10).isEmpty());
+    }
+
+    private static Course course(String code, String name) {
+        Course course = new Course();
+        course.setCode(code);
+        course.setName(name);
+        course.setCredits(3);
+        return course;
+    }
+}
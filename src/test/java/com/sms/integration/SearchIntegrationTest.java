@@ -0,0 +1,109 @@
+package com.sms.integration;
+
+import com.sms.dto.StudentSummary;
+import com.sms.dto.TeacherSummary;
+import com.sms.entity.Student;
+import com.sms.entity.Teacher;
+import com.sms.repository.StudentRepository;
+import com.sms.repository.TeacherRepository;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Slice;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+@DisplayName("Search Integration Tests")
+class SearchIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private TeacherRepository teacherRepository;
+
+    @BeforeEach
+    void setUp() {
+        student("STU001", "Ada", "Lovelace");
+        student("STU002", "Lovell", "Smith");
+        student("STU003", "Alan", "Turing");
+
+        Teacher teacher = new Teacher();
+        teacher.setEmployeeId("EMP001");
+        teacher.setFirstName("Grace");
+        teacher.setLastName("Hopper");
+        teacher.setEmail("grace@example.com");
+        teacher.setSpecialization("Compilers");
+        teacherRepository.save(teacher);
+    }
+
+    @Test
+    @WithMockUser(roles = "STUDENT")
+    @DisplayName("Integration: Should rank exact and prefix matches first, ignoring case")
+    @SuppressWarnings("unchecked")
+    void testSearchStudentsRanked() throws Exception {
+        Slice<StudentSummary> page = (Slice<StudentSummary>) mockMvc.perform(get("/search").param("q", "LOVELACE"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("search"))
+                .andReturn().getModelAndView().getModel().get("page");
+
+        Assertions.assertEquals(List.of("STU001"), page.getContent().stream().map(StudentSummary::studentId).toList());
+
+        page = (Slice<StudentSummary>) mockMvc.perform(get("/search").param("q", "lov").param("size", "1"))
+                .andExpect(status().isOk())
+                .andReturn().getModelAndView().getModel().get("page");
+
+        Assertions.assertEquals("STU001", page.getContent().get(0).studentId());
+        Assertions.assertTrue(page.hasNext());
+    }
+
+    @Test
+    @WithMockUser(roles = "STUDENT")
+    @DisplayName("Integration: Should match every token of the query")
+    @SuppressWarnings("unchecked")
+    void testSearchStudentsAllTokens() throws Exception {
+        Slice<StudentSummary> page = (Slice<StudentSummary>) mockMvc.perform(get("/search").param("q", "ada love"))
+                .andExpect(status().isOk())
+                .andReturn().getModelAndView().getModel().get("page");
+
+        Assertions.assertEquals(List.of("STU001"), page.getContent().stream().map(StudentSummary::studentId).toList());
+    }
+
+    @Test
+    @WithMockUser(roles = "STUDENT")
+    @DisplayName("Integration: Should search teachers by specialization")
+    @SuppressWarnings("unchecked")
+    void testSearchTeachers() throws Exception {
+        Slice<TeacherSummary> page = (Slice<TeacherSummary>) mockMvc.perform(get("/search")
+                        .param("q", "compil")
+                        .param("type", "teachers"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(org.hamcrest.Matchers.containsString("Hopper")))
+                .andReturn().getModelAndView().getModel().get("page");
+
+        Assertions.assertEquals(1, page.getContent().size());
+        Assertions.assertEquals("EMP001", page.getContent().get(0).employeeId());
+    }
+
+    private void student(String studentId, String firstName, String lastName) {
+        Student student = new Student();
+        student.setStudentId(studentId);
+        student.setFirstName(firstName);
+        student.setLastName(lastName);
+        student.setEmail(studentId.toLowerCase() + "@example.com");
+        studentRepository.save(student);
+    }
+}
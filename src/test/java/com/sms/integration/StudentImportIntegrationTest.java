@@ -0,0 +1,88 @@
+package com.sms.integration;
+
+import com.sms.dto.ImportReport;
+import com.sms.entity.Department;
+import com.sms.entity.Student;
+import com.sms.repository.DepartmentRepository;
+import com.sms.repository.StudentRepository;
+import com.sms.repository.UserRepository;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+@DisplayName("Student Import Integration Tests")
+class StudentImportIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        studentRepository.deleteAll();
+        departmentRepository.deleteAll();
+        userRepository.deleteAll();
+
+        Department department = new Department();
+        department.setName("Computer Science");
+        departmentRepository.save(department);
+    }
+
+    @Test
+    @WithMockUser(roles = "TEACHER")
+    @DisplayName("Integration: Should import valid rows and report rejected ones")
+    void testImportStudentsFromCsv() throws Exception {
+        String csv = """
+                studentId,firstName,lastName,email,phone,address,department,username,password
+                STU100,Ada,Lovelace,ada@example.com,123,"1 Analytical St, London",computer science,,secret1
+                STU101,Alan,Turing,alan@example.com,,,Mathematics,alan,secret2
+                STU102,Grace,Hopper,,,,,grace,secret3
+                STU100,Ada,Again,ada2@example.com,,,,,secret4
+                STU103,Edsger,Dijkstra,edsger@example.com,,,,,secret5
+                """;
+        MockMultipartFile file = new MockMultipartFile("file", "students.csv", "text/csv",
+                csv.getBytes(StandardCharsets.UTF_8));
+
+        ImportReport report = (ImportReport) mockMvc.perform(multipart("/students/import").file(file).with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(view().name("students/import"))
+                .andReturn().getModelAndView().getModel().get("report");
+
+        Assertions.assertEquals(5, report.getRows());
+        Assertions.assertEquals(2, report.getImported());
+        Assertions.assertEquals(3, report.getFailed());
+        Assertions.assertEquals(3, report.getErrors().get(0).line());
+        Assertions.assertEquals("Unknown department: Mathematics", report.getErrors().get(0).message());
+        Assertions.assertEquals("Missing email", report.getErrors().get(1).message());
+        Assertions.assertEquals("Duplicate student ID: STU100", report.getErrors().get(2).message());
+
+        Student ada = studentRepository.findByStudentId("STU100").orElseThrow();
+        Assertions.assertEquals("1 Analytical St, London", ada.getAddress());
+        Assertions.assertEquals("Computer Science", ada.getDepartment().getName());
+        Assertions.assertEquals("ada@example.com", ada.getUser().getUsername());
+        Assertions.assertNotEquals("secret1", ada.getUser().getPassword());
+        Assertions.assertTrue(studentRepository.existsByStudentId("STU103"));
+    }
+}
@@ -1,11 +1,17 @@
 package com.sms.integration;
 
+import com.sms.dto.StudentSummary;
 import com.sms.entity.Department;
 import com.sms.entity.Student;
 import com.sms.entity.User;
 import com.sms.repository.DepartmentRepository;
+import com.sms.repository.KeysetSlice;
 import com.sms.repository.StudentRepository;
 import com.sms.repository.UserRepository;
+import com.sms.service.StudentService;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -15,6 +21,9 @@ import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.ui.ModelMap;
+
+import java.util.List;
 
 import static org.hamcrest.Matchers.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
@@ -44,6 +53,12 @@ class StudentIntegrationTest {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private EntityManager entityManager;
+
     private Department department;
     private Student student;
 
@@ -175,4 +190,103 @@ class StudentIntegrationTest {
         mockMvc.perform(get("/students/new"))
                 .andExpect(status().isForbidden());
     }
+
+    @Test
+    @Order(7)
+    @WithMockUser(roles = "TEACHER")
+    @DisplayName("Integration: Should page through students by keyset cursor")
+    void testKeysetPagination() throws Exception {
+        User user = new User();
+        user.setUsername("secondstudent");
+        user.setPassword(passwordEncoder.encode("password"));
+        user.setRole(User.Role.STUDENT);
+        Student second = new Student();
+        second.setStudentId("STU000");
+        second.setFirstName("Second");
+        second.setLastName("Alpha");
+        second.setEmail("second.student@example.com");
+        second.setDepartment(department);
+        second.setUser(userRepository.save(user));
+        studentRepository.save(second);
+
+        ModelMap firstModel = mockMvc.perform(get("/students").param("size", "1"))
+                .andExpect(status().isOk())
+                .andReturn().getModelAndView().getModelMap();
+        KeysetSlice<?> firstPage = (KeysetSlice<?>) firstModel.get("page");
+        Assertions.assertEquals("Alpha", firstStudent(firstModel).lastName());
+        Assertions.assertEquals("Computer Science", firstStudent(firstModel).departmentName());
+        Assertions.assertTrue(firstPage.hasNext());
+        Assertions.assertFalse(firstPage.hasPrevious());
+
+        ModelMap secondModel = mockMvc.perform(get("/students")
+                        .param("size", "1")
+                        .param("after", firstPage.getNextCursor()))
+                .andExpect(status().isOk())
+                .andReturn().getModelAndView().getModelMap();
+        KeysetSlice<?> secondPage = (KeysetSlice<?>) secondModel.get("page");
+        Assertions.assertEquals("Student", firstStudent(secondModel).lastName());
+        Assertions.assertFalse(secondPage.hasNext());
+        Assertions.assertTrue(secondPage.hasPrevious());
+
+        ModelMap previousModel = mockMvc.perform(get("/students")
+                        .param("size", "1")
+                        .param("before", secondPage.getPreviousCursor()))
+                .andExpect(status().isOk())
+                .andReturn().getModelAndView().getModelMap();
+        Assertions.assertEquals("Alpha", firstStudent(previousModel).lastName());
+    }
+
+    @Test
+    @Order(8)
+    @DisplayName("Integration: Should update a student with one select and one update of the changed columns")
+    void testUpdateStudentStatements() {
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        try {
+            Student changes = new Student();
+            changes.setFirstName("Renamed");
+            changes.setVersion(student.getVersion());
+
+            Student updated = studentService.updateStudent(student.getId(), changes);
+            entityManager.flush();
+
+            Assertions.assertEquals(2, statistics.getPrepareStatementCount());
+            Assertions.assertEquals(1, statistics.getEntityUpdateCount());
+            Assertions.assertEquals(student.getVersion() + 1, updated.getVersion());
+            Assertions.assertEquals("Student", updated.getLastName());
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+
+    @Test
+    @Order(9)
+    @WithMockUser(roles = "TEACHER")
+    @DisplayName("Integration: Should show a conflict instead of overwriting a student saved since the form was loaded")
+    void testUpdateStudentConflict() throws Exception {
+        mockMvc.perform(post("/students/" + student.getId())
+                        .with(csrf())
+                        .param("version", String.valueOf(student.getVersion() - 1))
+                        .param("studentId", student.getStudentId())
+                        .param("firstName", "Overwritten")
+                        .param("lastName", "Name")
+                        .param("email", student.getEmail()))
+                .andExpect(status().isOk())
+                .andExpect(view().name("students/form"))
+                .andExpect(model().attributeExists("errorMessage"))
+                .andExpect(model().attribute("student", hasProperty("firstName", is("Test"))))
+                .andExpect(content().string(containsString("changed by someone else")));
+
+        Assertions.assertEquals("Test", studentRepository.findById(student.getId()).orElseThrow().getFirstName());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static StudentSummary firstStudent(ModelMap model) {
+        List<StudentSummary> students = (List<StudentSummary>) model.get("students");
+        Assertions.assertEquals(1, students.size());
+        return students.get(0);
+    }
 }
@@ -0,0 +1,68 @@
+package com.sms.monitoring;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("DbRequestMetricsFilter Unit Tests")
+class DbRequestMetricsFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final DbRequestMetricsFilter filter = new DbRequestMetricsFilter(meterRegistry, 50, 3);
+    private final SqlShapeInspector inspector = new SqlShapeInspector();
+
+    @Test
+    @DisplayName("Should reduce statements differing only in literals and parameter lists to one shape")
+    void testShape() {
+        assertThat(SqlShapeInspector.shape("select s.id from students s\n  where s.id = 42 and s.name = 'O''Brien'"))
+                .isEqualTo("select s.id from students s where s.id = ? and s.name = ?");
+        assertThat(SqlShapeInspector.shape("select c1_0.id from courses c1_0 where c1_0.id in (?, ?,?)"))
+                .isEqualTo(SqlShapeInspector.shape("select c1_0.id from courses c1_0 where c1_0.id in (?)"));
+    }
+
+    @Test
+    @DisplayName("Should count statements per request and flag a select repeated past the threshold")
+    void testRepeatedSelectFlagged() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/courses/7");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/courses/{id}");
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            DbRequestStats stats = DbRequestStats.current();
+            inspector.inspect("select * from courses where id = ?");
+            stats.statementExecuted(1_000);
+            for (int departmentId = 1; departmentId <= 3; departmentId++) {
+                inspector.inspect("select * from departments where id = " + departmentId);
+                stats.statementExecuted(1_000);
+            }
+            inspector.inspect("insert into audit values (1)");
+            stats.statementExecuted(1_000);
+            stats.connectionReleased(10_000);
+        });
+
+        assertThat(meterRegistry.get("sms.db.statements").tag("uri", "/courses/{id}").summary().totalAmount())
+                .isEqualTo(5);
+        assertThat(meterRegistry.get("sms.db.repeated.selects").tag("handler", "none").counter().count())
+                .isEqualTo(1);
+        assertThat(DbRequestStats.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should not flag a request whose selects all differ")
+    void testDistinctSelectsNotFlagged() throws Exception {
+        filter.doFilter(new MockHttpServletRequest("GET", "/students"), new MockHttpServletResponse(), (req, res) -> {
+            DbRequestStats stats = DbRequestStats.current();
+            inspector.inspect("select * from students");
+            inspector.inspect("select count(*) from students");
+            inspector.inspect("select * from departments");
+            stats.connectionReleased(10_000);
+        });
+
+        assertThat(meterRegistry.find("sms.db.repeated.selects").counter()).isNull();
+        assertThat(meterRegistry.get("sms.db.statements").summary().count()).isEqualTo(1);
+    }
+}
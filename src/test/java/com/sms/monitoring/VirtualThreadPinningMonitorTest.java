@@ -0,0 +1,45 @@
+package com.sms.monitoring;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+@DisplayName("VirtualThreadPinningMonitor Unit Tests")
+class VirtualThreadPinningMonitorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final VirtualThreadPinningMonitor monitor =
+            new VirtualThreadPinningMonitor(Duration.ofMillis(10), meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        monitor.destroy();
+    }
+
+    @Test
+    @DisplayName("Should count a virtual thread that sleeps inside synchronized")
+    void testPinnedThreadCounted() throws Exception {
+        monitor.afterPropertiesSet();
+        Object lock = new Object();
+
+        Thread.ofVirtual().start(() -> {
+            synchronized (lock) {
+                try {
+                    Thread.sleep(50);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }).join();
+
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() ->
+                assertThat(meterRegistry.get("sms.virtual-threads.pinned").counter().count()).isGreaterThanOrEqualTo(1));
+        assertThat(meterRegistry.get("sms.virtual-threads.pinned.duration").timer().count()).isGreaterThanOrEqualTo(1);
+    }
+}
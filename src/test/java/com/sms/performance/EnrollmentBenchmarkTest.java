@@ -0,0 +1,76 @@
+package com.sms.performance;
+
+import com.sms.service.EnrollmentService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.LongStream;
+
+/**
+ * Latency of enrolling a cohort of students into one course, in one bulk call and one call per student,
+ * e.g. {@code mvn test -Pperformance -Dtest=EnrollmentBenchmarkTest -Denrollment.students=1000}.
+ */
+@SpringBootTest
+@Tag("performance")
+@DisplayName("Enrollment Benchmark")
+class EnrollmentBenchmarkTest {
+
+    private static final int STUDENTS = Integer.getInteger("enrollment.students", 1_000);
+    private static final int ROUNDS = 20;
+    private static final long FIRST_ID = 2_100_000_000L;
+    private static final long COURSE_ID = 2_100_000_000L;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from student_courses where course_id = ?", COURSE_ID);
+        jdbcTemplate.update("delete from courses where id = ?", COURSE_ID);
+        jdbcTemplate.update("delete from students where id >= ? and id < ?", FIRST_ID, FIRST_ID + STUDENTS);
+    }
+
+    @Test
+    @DisplayName("Benchmark: Should enroll a cohort of students into one course")
+    void benchmarkEnrollment() {
+        List<Long> studentIds = LongStream.range(FIRST_ID, FIRST_ID + STUDENTS).boxed().toList();
+        jdbcTemplate.batchUpdate("insert into students (id, student_id, first_name, last_name, email) values (?, ?, ?, ?, ?)",
+                studentIds.stream().map(id -> new Object[]{id, "E" + id, "Enrolled", "Student" + id, "e" + id + "@example.com"})
+                        .toList());
+        jdbcTemplate.update("insert into courses (id, code, name) values (?, ?, ?)", COURSE_ID, "BENCH101", "Benchmark");
+
+        long[] bulk = new long[ROUNDS];
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            int enrolled = enrollmentService.enrollAll(studentIds, COURSE_ID);
+            bulk[round] = System.nanoTime() - start;
+            Assertions.assertEquals(STUDENTS, enrolled);
+            Assertions.assertEquals(0, enrollmentService.enrollAll(studentIds, COURSE_ID));
+            Assertions.assertEquals(STUDENTS, enrollmentService.unenrollAll(studentIds, COURSE_ID));
+        }
+        Arrays.sort(bulk);
+
+        long start = System.nanoTime();
+        for (Long studentId : studentIds) {
+            Assertions.assertTrue(enrollmentService.enroll(studentId, COURSE_ID));
+        }
+        long single = System.nanoTime() - start;
+
+        Assertions.assertEquals(STUDENTS, jdbcTemplate.queryForObject(
+                "select count(*) from student_courses where course_id = ?", Integer.class, COURSE_ID));
+        System.out.printf("Enrolled %d students into one course: bulk p50 %.1f ms, max %.1f ms; "
+                        + "one call per student %d ms (%.2f ms each)%n",
+                STUDENTS, bulk[ROUNDS / 2] / 1e6, bulk[ROUNDS - 1] / 1e6, single / 1_000_000, single / 1e6 / STUDENTS);
+    }
+}
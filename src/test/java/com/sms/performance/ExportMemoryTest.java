@@ -0,0 +1,101 @@
+package com.sms.performance;
+
+import com.sms.service.ExportService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Heap usage while exporting a large student table. The used heap is sampled after a GC at every tenth of
+ * the rows written; with streaming and per-row detaching it must not grow with the number of rows, e.g.
+ * {@code mvn test -Pperformance -Dtest=ExportMemoryTest -Dexport.rows=1000000}.
+ */
+@SpringBootTest
+@Tag("performance")
+@DisplayName("Export Memory Test")
+class ExportMemoryTest {
+
+    private static final int ROWS = Integer.getInteger("export.rows", 1_000_000);
+    private static final int BATCH_SIZE = 10_000;
+    private static final long FIRST_ID = 1_000_000_000L;
+    private static final long MAX_GROWTH_BYTES = 64L * 1024 * 1024;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ExportService exportService;
+
+    @AfterEach
+    void tearDown() {
+        for (long from = FIRST_ID; from < FIRST_ID + ROWS; from += BATCH_SIZE) {
+            jdbcTemplate.update("delete from students where id >= ? and id < ?", from, from + BATCH_SIZE);
+        }
+    }
+
+    @Test
+    @DisplayName("Benchmark: Should export students with constant memory")
+    void exportStudentsWithConstantMemory() throws Exception {
+        for (int offset = 0; offset < ROWS; offset += BATCH_SIZE) {
+            List<Object[]> batch = IntStream.range(offset, Math.min(offset + BATCH_SIZE, ROWS))
+                    .mapToObj(i -> new Object[]{FIRST_ID + i, "EXP" + i, "Export", "Student" + i, "export" + i + "@example.com"})
+                    .toList();
+            jdbcTemplate.batchUpdate(
+                    "insert into students (id, student_id, first_name, last_name, email) values (?, ?, ?, ?, ?)", batch);
+        }
+        long expected = jdbcTemplate.queryForObject("select count(*) from students", Long.class);
+
+        HeapSamplingOutputStream out = new HeapSamplingOutputStream(Math.max(1, expected / 10));
+        long start = System.nanoTime();
+        long exported = exportService.exportStudents(null, ExportService.Format.CSV, out);
+        long elapsedNanos = System.nanoTime() - start;
+
+        Assertions.assertEquals(expected, exported);
+        List<Long> samples = out.samples;
+        long baseline = samples.get(0);
+        long peak = samples.stream().mapToLong(Long::longValue).max().orElse(baseline);
+        System.out.printf("Exported %d students (%d MB) in %d ms; used heap after GC: first %d MB, peak %d MB%n",
+                exported, out.bytes >> 20, elapsedNanos / 1_000_000, baseline >> 20, peak >> 20);
+        Assertions.assertTrue(peak - baseline < MAX_GROWTH_BYTES,
+                "Heap grew by " + ((peak - baseline) >> 20) + " MB while exporting");
+    }
+
+    private static final class HeapSamplingOutputStream extends OutputStream {
+
+        private final long rowsPerSample;
+        private final List<Long> samples = new ArrayList<>();
+        private long bytes;
+        private long rows;
+
+        HeapSamplingOutputStream(long rowsPerSample) {
+            this.rowsPerSample = rowsPerSample;
+        }
+
+        @Override
+        public void write(int b) {
+            bytes++;
+            if (b == '\n' && ++rows % rowsPerSample == 0) {
+                System.gc();
+                Runtime runtime = Runtime.getRuntime();
+                samples.add(runtime.totalMemory() - runtime.freeMemory());
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            for (int i = off; i < off + len; i++) {
+                write(b[i]);
+            }
+        }
+    }
+}
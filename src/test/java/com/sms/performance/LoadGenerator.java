@@ -0,0 +1,277 @@
+package com.sms.performance;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Drives the running application the way browsers do: each client is a virtual thread that logs in through the
+ * form login, keeps its session cookie and repeats one user journey with think time until the run ends. All
+ * clients share one {@link HttpClient}. Latencies are recorded per endpoint in HDR histograms (microseconds).
+ * Requests shed with 503 and {@code Retry-After} are counted apart from errors, and the client waits as told.
+ */
+class LoadGenerator {
+
+    /** A course as the edit form posts it back. */
+    record CourseForm(long id, String code, String name, int credits, Long departmentId, Long teacherId) {
+    }
+
+    /** Who logs in and which ids the journeys visit. */
+    record Fixture(List<String> studentLogins, List<String> teacherLogins, String password, long[] studentIds,
+                   List<CourseForm> courses) {
+    }
+
+    enum Journey {
+        /** A student browses the student list and opens a few records. */
+        STUDENT,
+        /** A teacher looks up a student, then opens and saves a course. */
+        TEACHER
+    }
+
+    record Settings(int clients, Duration duration, Duration rampUp, Duration thinkTime, Map<Journey, Integer> mix) {
+    }
+
+    record EndpointStats(String endpoint, long requests, long errors, long shed, double throughput, double p50Millis,
+                         double p99Millis, double p999Millis, double maxMillis) {
+    }
+
+    private static final int MAX_LOGIN_ATTEMPTS = 20;
+
+    private final URI baseUri;
+    private final Fixture fixture;
+    private final Settings settings;
+    private final HttpClient httpClient;
+    private final Map<String, Histogram> histograms = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> shed = new ConcurrentHashMap<>();
+    private final LongAdder busyLogins = new LongAdder();
+    private long measuredNanos;
+
+    LoadGenerator(URI baseUri, Fixture fixture, Settings settings) {
+        this.baseUri = baseUri;
+        this.fixture = fixture;
+        this.settings = settings;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    /** Runs all clients to the end of the run and returns the per-endpoint results. */
+    List<EndpointStats> run() throws InterruptedException {
+        long start = System.nanoTime();
+        long deadline = start + settings.duration().toNanos();
+        long rampStep = settings.rampUp().toNanos() / Math.max(1, settings.clients());
+        List<Journey> journeys = weighted(settings.mix());
+        try (httpClient; ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int client = 0; client < settings.clients(); client++) {
+                int number = client;
+                Journey journey = journeys.get(client % journeys.size());
+                clients.submit(() -> {
+                    TimeUnit.NANOSECONDS.sleep(rampStep * number);
+                    runClient(number, journey, deadline);
+                    return null;
+                });
+            }
+        }
+        measuredNanos = System.nanoTime() - start;
+        return results();
+    }
+
+    long busyLogins() {
+        return busyLogins.sum();
+    }
+
+    /** Writes each endpoint's percentile distribution, in milliseconds, to {@code <endpoint>.hgrm}. */
+    void writeHistograms(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        for (Map.Entry<String, Histogram> entry : histograms.entrySet()) {
+            String file = entry.getKey().replaceAll("[^A-Za-z0-9]+", "_") + ".hgrm";
+            try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve(file)), true,
+                    StandardCharsets.UTF_8)) {
+                entry.getValue().outputPercentileDistribution(out, 1000.0);
+            }
+        }
+    }
+
+    private void runClient(int number, Journey journey, long deadline) throws InterruptedException {
+        List<String> logins = journey == Journey.TEACHER ? fixture.teacherLogins() : fixture.studentLogins();
+        Optional<String> session = login(logins.get(number % logins.size()), deadline);
+        while (session.isPresent() && System.nanoTime() < deadline) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            switch (journey) {
+                case STUDENT -> {
+                    get(session.get(), "GET /students", "/students");
+                    think();
+                    for (int i = 0; i < 3; i++) {
+                        get(session.get(), "GET /students/{id}",
+                                "/students/" + fixture.studentIds()[random.nextInt(fixture.studentIds().length)]);
+                        think();
+                    }
+                }
+                case TEACHER -> {
+                    get(session.get(), "GET /students", "/students");
+                    think();
+                    get(session.get(), "GET /students/{id}",
+                            "/students/" + fixture.studentIds()[random.nextInt(fixture.studentIds().length)]);
+                    think();
+                    CourseForm course = fixture.courses().get(random.nextInt(fixture.courses().size()));
+                    get(session.get(), "GET /courses/{id}/edit", "/courses/" + course.id() + "/edit");
+                    think();
+                    post(session.get(), "POST /courses/{id}", "/courses/" + course.id(), form(course));
+                    think();
+                }
+            }
+        }
+    }
+
+    /** Logs in, retrying while the server asks to (password verification at capacity); returns the session. */
+    private Optional<String> login(String username, long deadline) throws InterruptedException {
+        String body = "username=" + encode(username) + "&password=" + encode(fixture.password());
+        for (int attempt = 0; attempt < MAX_LOGIN_ATTEMPTS && System.nanoTime() < deadline; attempt++) {
+            HttpResponse<Void> response = send("POST /login", HttpRequest.newBuilder(baseUri.resolve("/login"))
+                    .header("Content-Type", "application/x-www-form-urlencoded")
+                    .POST(HttpRequest.BodyPublishers.ofString(body)), 302);
+            if (response != null && response.statusCode() == 503) {
+                continue;
+            }
+            String location = response == null ? "" : response.headers().firstValue("Location").orElse("");
+            if (location.endsWith("/dashboard")) {
+                // Form login changes the session id, so the cookie to keep is the one set here
+                return response.headers().allValues("Set-Cookie").stream()
+                        .filter(cookie -> cookie.startsWith("JSESSIONID="))
+                        .map(cookie -> cookie.split(";", 2)[0])
+                        .findFirst();
+            }
+            if (!location.contains("busy")) {
+                error("POST /login");
+                return Optional.empty();
+            }
+            busyLogins.increment();
+            TimeUnit.MILLISECONDS.sleep(50L << Math.min(attempt, 5));
+        }
+        return Optional.empty();
+    }
+
+    private void get(String session, String endpoint, String path) {
+        send(endpoint, HttpRequest.newBuilder(baseUri.resolve(path)).header("Cookie", session).GET(), 200);
+    }
+
+    private void post(String session, String endpoint, String path, String body) {
+        send(endpoint, HttpRequest.newBuilder(baseUri.resolve(path))
+                .header("Cookie", session)
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(body)), 302);
+    }
+
+    private HttpResponse<Void> send(String endpoint, HttpRequest.Builder request, int expectedStatus) {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<Void> response = httpClient.send(request.timeout(Duration.ofSeconds(30)).build(),
+                    HttpResponse.BodyHandlers.discarding());
+            histogram(endpoint).recordValue((System.nanoTime() - start) / 1_000);
+            Optional<String> retryAfter = response.headers().firstValue("Retry-After");
+            if (response.statusCode() == 503 && retryAfter.isPresent()) {
+                // Shed by the concurrency limit: not an error, the client backs off as asked
+                shed.computeIfAbsent(endpoint, e -> new LongAdder()).increment();
+                TimeUnit.SECONDS.sleep(Long.parseLong(retryAfter.get()));
+                return response;
+            }
+            // A redirect to the login page means the session was lost
+            if (response.statusCode() != expectedStatus
+                    || response.headers().firstValue("Location").orElse("").endsWith("/login")) {
+                error(endpoint);
+            }
+            return response;
+        } catch (IOException e) {
+            error(endpoint);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private void think() throws InterruptedException {
+        long max = settings.thinkTime().toMillis();
+        if (max > 0) {
+            TimeUnit.MILLISECONDS.sleep(ThreadLocalRandom.current().nextLong(max / 2, max + 1));
+        }
+    }
+
+    private Histogram histogram(String endpoint) {
+        return histograms.computeIfAbsent(endpoint, e -> new ConcurrentHistogram(3));
+    }
+
+    private void error(String endpoint) {
+        errors.computeIfAbsent(endpoint, e -> new LongAdder()).increment();
+    }
+
+    private List<EndpointStats> results() {
+        double seconds = measuredNanos / 1e9;
+        List<EndpointStats> results = new ArrayList<>();
+        histograms.entrySet().stream().sorted(Map.Entry.comparingByKey()).forEach(entry -> {
+            Histogram histogram = entry.getValue();
+            LongAdder failed = errors.get(entry.getKey());
+            LongAdder turnedAway = shed.get(entry.getKey());
+            results.add(new EndpointStats(entry.getKey(), histogram.getTotalCount(), failed == null ? 0 : failed.sum(),
+                    turnedAway == null ? 0 : turnedAway.sum(),
+                    histogram.getTotalCount() / seconds, histogram.getValueAtPercentile(50) / 1000.0,
+                    histogram.getValueAtPercentile(99) / 1000.0, histogram.getValueAtPercentile(99.9) / 1000.0,
+                    histogram.getMaxValue() / 1000.0));
+        });
+        return results;
+    }
+
+    private static String form(CourseForm course) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("code", course.code());
+        fields.put("name", course.name());
+        fields.put("credits", course.credits());
+        fields.put("department.id", course.departmentId());
+        fields.put("teacher.id", course.teacherId());
+        return fields.entrySet().stream()
+                .filter(field -> field.getValue() != null)
+                .map(field -> encode(field.getKey()) + "=" + encode(field.getValue().toString()))
+                .collect(Collectors.joining("&"));
+    }
+
+    private static List<Journey> weighted(Map<Journey, Integer> mix) {
+        List<Journey> journeys = new ArrayList<>();
+        mix.forEach((journey, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                journeys.add(journey);
+            }
+        });
+        return journeys;
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
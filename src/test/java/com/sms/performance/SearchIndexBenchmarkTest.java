@@ -0,0 +1,74 @@
+package com.sms.performance;
+
+import com.sms.search.DocumentType;
+import com.sms.search.SearchIndex;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Memory footprint and query latency of the in-memory search index, e.g.
+ * {@code mvn test -Pperformance -Dtest=SearchIndexBenchmarkTest -Dindex.entities=1000000}.
+ */
+@Tag("performance")
+@DisplayName("Search Index Benchmark")
+class SearchIndexBenchmarkTest {
+
+    private static final int ENTITIES = Integer.getInteger("index.entities", 1_000_000);
+    private static final List<String> FIRST_NAMES = List.of("Ada", "Alan", "Grace", "Edsger", "Barbara", "Donald",
+            "Margaret", "Ken", "Frances", "John", "Radia", "Niklaus", "Tony", "Leslie", "Shafi", "Yukihiro");
+    private static final List<String> LAST_NAMES = List.of("Lovelace", "Turing", "Hopper", "Dijkstra", "Liskov",
+            "Knuth", "Hamilton", "Thompson", "Allen", "Backus", "Perlman", "Wirth", "Hoare", "Lamport",
+            "Goldwasser", "Matsumoto");
+    private static final List<String> QUERIES = List.of("a", "lov", "grace hop", "stu12345", "dijkstra",
+            "t4242", "barbara liskov", "knu", "cs1", "margaret ham");
+
+    @Test
+    @DisplayName("Benchmark: Should report memory and latency at scale")
+    void benchmarkSearchIndex() {
+        long before = usedHeapAfterGc();
+        SearchIndex index = new SearchIndex();
+        Random random = new Random(42);
+        long start = System.nanoTime();
+        for (int i = 0; i < ENTITIES; i++) {
+            String first = FIRST_NAMES.get(random.nextInt(FIRST_NAMES.size()));
+            String last = LAST_NAMES.get(random.nextInt(LAST_NAMES.size())) + (i % 5000);
+            switch (i % 20) {
+                case 0 -> index.put(DocumentType.TEACHER, i, first + " " + last + " (T" + i + ")",
+                        "T" + i, first, last, "t" + i + "@example.com", "Computer Science");
+                case 1 -> index.put(DocumentType.COURSE, i, "CS" + i + " - " + last, "CS" + i, last + " Studies");
+                default -> index.put(DocumentType.STUDENT, i, first + " " + last + " (STU" + i + ")",
+                        "STU" + i, first, last, "s" + i + "@example.com");
+            }
+        }
+        long buildMillis = (System.nanoTime() - start) / 1_000_000;
+        long footprint = usedHeapAfterGc() - before;
+
+        QUERIES.forEach(query -> index.search(query, 10));
+        long[] nanos = new long[QUERIES.size() * 20];
+        for (int i = 0; i < nanos.length; i++) {
+            long queryStart = System.nanoTime();
+            index.search(QUERIES.get(i % QUERIES.size()), 10);
+            nanos[i] = System.nanoTime() - queryStart;
+        }
+        Arrays.sort(nanos);
+        System.out.printf("Indexed %d entities (%d terms) in %d ms, %d MB (%d bytes/entity); "
+                        + "query p50 %.2f ms, p95 %.2f ms, max %.2f ms%n",
+                index.size(), index.termCount(), buildMillis, footprint >> 20, footprint / ENTITIES,
+                nanos[nanos.length / 2] / 1e6, nanos[(int) (nanos.length * 0.95)] / 1e6,
+                nanos[nanos.length - 1] / 1e6);
+        Assertions.assertEquals(ENTITIES, index.size());
+        Assertions.assertFalse(index.search("grace hop", 10).isEmpty());
+    }
+
+    private static long usedHeapAfterGc() {
+        System.gc();
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,93 @@
+package com.sms.performance;
+
+import com.sms.service.StudentService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Connection;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+/**
+ * Search latency over a large student table. The 50 ms budget is only enforced on PostgreSQL, where the
+ * GIN indexes exist; point the test at one with {@code -Dspring.datasource.url=...}, e.g.
+ * {@code mvn test -Pperformance -Dtest=SearchLatencyBenchmarkTest -Dsearch.rows=500000}.
+ */
+@SpringBootTest
+@Tag("performance")
+@DisplayName("Search Latency Benchmark")
+class SearchLatencyBenchmarkTest {
+
+    private static final int ROWS = Integer.getInteger("search.rows", 500_000);
+    private static final long BUDGET_MILLIS = Long.getLong("search.budget-ms", 50);
+    private static final int BATCH_SIZE = 10_000;
+    private static final long FIRST_ID = 2_000_000_000L;
+    private static final List<String> FIRST_NAMES = List.of("Ada", "Alan", "Grace", "Edsger", "Barbara", "Donald",
+            "Margaret", "Ken", "Frances", "John");
+    private static final List<String> LAST_NAMES = List.of("Lovelace", "Turing", "Hopper", "Dijkstra", "Liskov",
+            "Knuth", "Hamilton", "Thompson", "Allen", "Backus");
+    private static final List<String> QUERIES = List.of("lovelace", "grace hop", "stu12345", "dijkstr", "knut",
+            "barbara liskov", "hamilton5", "allen", "thompsn", "s4242@example");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private StudentService studentService;
+
+    @AfterEach
+    void tearDown() {
+        for (long from = FIRST_ID; from < FIRST_ID + ROWS; from += BATCH_SIZE) {
+            jdbcTemplate.update("delete from students where id >= ? and id < ?", from, from + BATCH_SIZE);
+        }
+    }
+
+    @Test
+    @DisplayName("Benchmark: Should search students within the latency budget")
+    void benchmarkStudentSearch() {
+        Random random = new Random(42);
+        for (int offset = 0; offset < ROWS; offset += BATCH_SIZE) {
+            List<Object[]> batch = IntStream.range(offset, Math.min(offset + BATCH_SIZE, ROWS))
+                    .mapToObj(i -> new Object[]{FIRST_ID + i, "STU" + i,
+                            FIRST_NAMES.get(random.nextInt(FIRST_NAMES.size())),
+                            LAST_NAMES.get(random.nextInt(LAST_NAMES.size())) + (i % 1000),
+                            "s" + i + "@example.com"})
+                    .toList();
+            jdbcTemplate.batchUpdate(
+                    "insert into students (id, student_id, first_name, last_name, email) values (?, ?, ?, ?, ?)", batch);
+        }
+        String database = jdbcTemplate.execute(
+                (Connection connection) -> connection.getMetaData().getDatabaseProductName());
+        if ("PostgreSQL".equals(database)) {
+            jdbcTemplate.execute("analyze students");
+        }
+
+        QUERIES.forEach(this::search);
+        long[] nanos = new long[QUERIES.size() * 5];
+        for (int i = 0; i < nanos.length; i++) {
+            long start = System.nanoTime();
+            search(QUERIES.get(i % QUERIES.size()));
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        long p50 = nanos[nanos.length / 2] / 1_000_000;
+        long p95 = nanos[(int) (nanos.length * 0.95)] / 1_000_000;
+        System.out.printf("Searched %d students on %s: p50 %d ms, p95 %d ms%n", ROWS, database, p50, p95);
+        if ("PostgreSQL".equals(database)) {
+            Assertions.assertTrue(p95 <= BUDGET_MILLIS, "p95 " + p95 + " ms exceeds " + BUDGET_MILLIS + " ms");
+        }
+    }
+
+    private void search(String query) {
+        studentService.searchStudents(query, PageRequest.of(0, 25));
+    }
+}
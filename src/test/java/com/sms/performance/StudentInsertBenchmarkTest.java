@@ -0,0 +1,88 @@
+package com.sms.performance;
+
+import com.sms.entity.Department;
+import com.sms.entity.Student;
+import com.sms.entity.User;
+import com.sms.repository.StudentRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Insert throughput for a large intake of students. Run it on two revisions to compare them, e.g.
+ * {@code mvn test -Pperformance -Dtest=StudentInsertBenchmarkTest -Dbenchmark.students=100000}.
+ */
+@SpringBootTest
+@Tag("performance")
+@DisplayName("Student Insert Benchmark")
+class StudentInsertBenchmarkTest {
+
+    private static final int STUDENTS = Integer.getInteger("benchmark.students", 100_000);
+    private static final int CHUNK_SIZE = 500;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Test
+    @DisplayName("Benchmark: Should insert students in batches")
+    void benchmarkStudentInserts() {
+        String password = passwordEncoder.encode("password");
+        Long departmentId = transactionTemplate.execute(status -> {
+            Department department = new Department();
+            department.setName("Benchmark " + System.nanoTime());
+            entityManager.persist(department);
+            return department.getId();
+        });
+        long before = studentRepository.count();
+
+        long start = System.nanoTime();
+        for (int offset = 0; offset < STUDENTS; offset += CHUNK_SIZE) {
+            int from = offset;
+            int to = Math.min(offset + CHUNK_SIZE, STUDENTS);
+            transactionTemplate.executeWithoutResult(status -> {
+                Department department = entityManager.getReference(Department.class, departmentId);
+                for (int i = from; i < to; i++) {
+                    entityManager.persist(student(i, department, password));
+                }
+                entityManager.flush();
+                entityManager.clear();
+            });
+        }
+        long elapsedNanos = System.nanoTime() - start;
+
+        Assertions.assertEquals(before + STUDENTS, studentRepository.count());
+        System.out.printf("Inserted %d students (with users) in %d ms: %.0f students/s%n",
+                STUDENTS, elapsedNanos / 1_000_000, STUDENTS / (elapsedNanos / 1e9));
+    }
+
+    private static Student student(int i, Department department, String password) {
+        User user = new User();
+        user.setUsername("bench" + i + "@example.com");
+        user.setPassword(password);
+        user.setRole(User.Role.STUDENT);
+
+        Student student = new Student();
+        student.setStudentId("B" + i);
+        student.setFirstName("Bench");
+        student.setLastName("Student" + i);
+        student.setEmail("bench" + i + "@example.com");
+        student.setDepartment(department);
+        student.setUser(user);
+        return student;
+    }
+}
@@ -0,0 +1,114 @@
+package com.sms.performance;
+
+import com.sms.performance.LoadGenerator.CourseForm;
+import com.sms.performance.LoadGenerator.EndpointStats;
+import com.sms.performance.LoadGenerator.Journey;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Production-like load against the full application on a random port: thousands of virtual-thread clients log in
+ * through the real form login and repeat student and teacher journeys. Data comes from the {@code loadtest}
+ * seeder. Per-endpoint throughput and p50/p99/p99.9 are printed, and the histograms are written to
+ * {@code target/loadtest}, e.g.
+ * {@code mvn test -Pperformance -Dtest=UserJourneyLoadTest -Dload.clients=5000 -Dload.duration=PT2M -Dload.mix=STUDENT:70,TEACHER:30}.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "sms.loadtest.students=${load.students:5000}",
+        "sms.loadtest.teachers=${load.teachers:200}",
+        "sms.loadtest.courses=${load.courses:500}",
+        "sms.loadtest.departments=20"
+})
+@ActiveProfiles({"test", "loadtest"})
+@Tag("performance")
+@DisplayName("User Journey Load Test")
+class UserJourneyLoadTest {
+
+    private static final int CLIENTS = Integer.getInteger("load.clients", 2000);
+    private static final Duration DURATION = Duration.parse(System.getProperty("load.duration", "PT60S"));
+    private static final Duration RAMP_UP = Duration.parse(System.getProperty("load.ramp-up", "PT20S"));
+    private static final Duration THINK_TIME = Duration.parse(System.getProperty("load.think-time", "PT0.2S"));
+    private static final String MIX = System.getProperty("load.mix", "STUDENT:80,TEACHER:20");
+    private static final double MAX_ERROR_RATE = Double.parseDouble(System.getProperty("load.max-error-rate", "0.01"));
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${sms.loadtest.students}")
+    private int students;
+
+    @Value("${sms.loadtest.teachers}")
+    private int teachers;
+
+    @Value("${sms.loadtest.password}")
+    private String password;
+
+    @Test
+    @DisplayName("Load: Should serve the journey mix within the error budget")
+    void loadUserJourneys() throws Exception {
+        LoadGenerator generator = new LoadGenerator(URI.create("http://localhost:" + port), fixture(),
+                new LoadGenerator.Settings(CLIENTS, DURATION, RAMP_UP, THINK_TIME, mix()));
+
+        List<EndpointStats> results = generator.run();
+        generator.writeHistograms(Path.of("target", "loadtest"));
+
+        System.out.printf("%d clients for %s, mix %s (%d logins asked to retry)%n", CLIENTS, DURATION, MIX,
+                generator.busyLogins());
+        System.out.printf("%-24s %9s %7s %7s %9s %9s %9s %9s %9s%n", "endpoint", "requests", "errors", "shed",
+                "req/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+        long requests = 0;
+        long errors = 0;
+        for (EndpointStats stats : results) {
+            System.out.printf("%-24s %9d %7d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n", stats.endpoint(),
+                    stats.requests(), stats.errors(), stats.shed(), stats.throughput(), stats.p50Millis(),
+                    stats.p99Millis(), stats.p999Millis(), stats.maxMillis());
+            requests += stats.requests();
+            errors += stats.errors();
+        }
+        Assertions.assertTrue(requests > 0);
+        Assertions.assertTrue(errors <= requests * MAX_ERROR_RATE,
+                errors + " of " + requests + " requests failed");
+    }
+
+    private LoadGenerator.Fixture fixture() {
+        List<String> studentLogins = IntStream.rangeClosed(1, students)
+                .mapToObj(n -> "student" + n + "@loadtest.example.com").toList();
+        List<String> teacherLogins = IntStream.rangeClosed(1, teachers)
+                .mapToObj(n -> "teacher" + n + "@loadtest.example.com").toList();
+        long[] studentIds = jdbcTemplate.queryForList("select id from students", Long.class).stream()
+                .mapToLong(Long::longValue).toArray();
+        List<CourseForm> courses = jdbcTemplate.query(
+                "select id, code, name, credits, department_id, teacher_id from courses",
+                (row, i) -> new CourseForm(row.getLong("id"), row.getString("code"), row.getString("name"),
+                        row.getInt("credits"), row.getObject("department_id", Long.class),
+                        row.getObject("teacher_id", Long.class)));
+        return new LoadGenerator.Fixture(studentLogins, teacherLogins, password, studentIds, courses);
+    }
+
+    private static Map<Journey, Integer> mix() {
+        Map<Journey, Integer> mix = new EnumMap<>(Journey.class);
+        Arrays.stream(MIX.split(",")).map(entry -> entry.trim().split(":"))
+                .forEach(entry -> mix.put(Journey.valueOf(entry[0].trim()), Integer.parseInt(entry[1].trim())));
+        return mix;
+    }
+}
@@ -0,0 +1,84 @@
+package com.sms.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SearchIndex Unit Tests")
+class SearchIndexTest {
+
+    private final SearchIndex index = new SearchIndex();
+
+    @Test
+    @DisplayName("Should match every query token by prefix, exact matches first")
+    void testSearch_PrefixAndRanking() {
+        index.put(DocumentType.STUDENT, 1L, "Adam Smith", "Adam", "Smith");
+        index.put(DocumentType.STUDENT, 2L, "Ada Lovelace", "Ada", "Lovelace");
+        index.put(DocumentType.TEACHER, 3L, "Ada Byron", "Ada", "Byron");
+
+        assertThat(ids(index.search("ada", 10))).containsExactly(2L, 3L, 1L);
+        assertThat(ids(index.search("ADA LOV", 10))).containsExactly(2L);
+        assertThat(ids(index.search("ada", EnumSet.of(DocumentType.TEACHER), 10))).containsExactly(3L);
+        assertThat(index.search("zzz", 10)).isEmpty();
+        assertThat(index.search(" ", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should replace and remove documents")
+    void testPutAndRemove() {
+        index.put(DocumentType.COURSE, 7L, "CS101 - Programming", "CS101", "Programming");
+        index.put(DocumentType.COURSE, 7L, "CS101 - Compilers", "CS101", "Compilers");
+
+        assertThat(index.search("programming", 10)).isEmpty();
+        assertThat(index.search("cs101", 10)).extracting(SearchIndex.Hit::label).containsExactly("CS101 - Compilers");
+        assertThat(index.search("cs101", 10).get(0).url()).isEqualTo("/courses/7");
+
+        index.remove(DocumentType.COURSE, 7L);
+
+        assertThat(index.search("cs101", 10)).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should keep answering correctly after dead documents are compacted")
+    void testCompaction() {
+        for (long id = 0; id < 5000; id++) {
+            index.put(DocumentType.STUDENT, id, "Student " + id, "student", "s" + id);
+        }
+        for (long id = 0; id < 5000; id += 2) {
+            index.remove(DocumentType.STUDENT, id);
+        }
+
+        assertThat(index.size()).isEqualTo(2500);
+        assertThat(index.search("s4999", 10)).hasSize(1);
+        assertThat(index.search("s4998", 10)).isEmpty();
+        assertThat(ids(index.search("student", 3))).containsExactly(1L, 3L, 5L);
+    }
+
+    @Test
+    @DisplayName("Should reclaim document numbers, so repeated updates do not grow the index")
+    void testRepeatedUpdatesStayBounded() {
+        index.put(DocumentType.DEPARTMENT, 1L, "Physics", "Physics");
+        for (int version = 0; version < 20_000; version++) {
+            index.put(DocumentType.STUDENT, 42L, "Student v" + version, "student", "v" + version);
+        }
+
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.slotCount()).isLessThanOrEqualTo(1026);
+        assertThat(index.termCount()).isLessThanOrEqualTo(1026);
+        assertThat(index.search("student", 10)).extracting(SearchIndex.Hit::label).containsExactly("Student v19999");
+        assertThat(index.search("v19998", 10)).isEmpty();
+        assertThat(ids(index.search("physics", EnumSet.of(DocumentType.DEPARTMENT), 10))).containsExactly(1L);
+
+        index.put(DocumentType.DEPARTMENT, 2L, "Physical Education", "Physical", "Education");
+        assertThat(ids(index.search("phys", EnumSet.of(DocumentType.DEPARTMENT), 10))).containsExactly(1L, 2L);
+    }
+
+    private static List<Long> ids(List<SearchIndex.Hit> hits) {
+        return hits.stream().map(SearchIndex.Hit::id).toList();
+    }
+}
@@ -0,0 +1,77 @@
+package com.sms.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+@DisplayName("AdmissionControlledPasswordEncoder Unit Tests")
+class AdmissionControlledPasswordEncoderTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AdmissionControlledPasswordEncoder encoder =
+            new AdmissionControlledPasswordEncoder(new BlockingEncoder(release), 1, 1, meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        encoder.destroy();
+    }
+
+    @Test
+    @DisplayName("Should verify passwords through the bounded pool")
+    void testMatches() {
+        release.countDown();
+
+        assertThat(encoder.matches("secret", "secret")).isTrue();
+        assertThat(encoder.matches("secret", "other")).isFalse();
+        assertThat(meterRegistry.get("sms.login.verification").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should turn logins away when every thread and queue slot is taken")
+    void testMatches_RejectedWhenSaturated() {
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> encoder.matches("a", "a"));
+        await().atMost(5, TimeUnit.SECONDS).until(
+                () -> meterRegistry.get("sms.login.verification.active").gauge().value() == 1);
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> encoder.matches("b", "b"));
+        await().atMost(5, TimeUnit.SECONDS).until(
+                () -> meterRegistry.get("sms.login.verification.queue").gauge().value() == 1);
+
+        assertThatThrownBy(() -> encoder.matches("c", "c"))
+                .isInstanceOf(LoginCapacityExceededException.class);
+        assertThat(meterRegistry.get("sms.login.verification.rejected").counter().count()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.join()).isTrue();
+        assertThat(queued.join()).isTrue();
+    }
+
+    private record BlockingEncoder(CountDownLatch release) implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return rawPassword.toString();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return rawPassword.toString().equals(encodedPassword);
+        }
+    }
+}
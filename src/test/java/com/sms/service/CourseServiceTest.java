@@ -4,6 +4,7 @@ import com.sms.entity.Course;
 import com.sms.entity.Department;
 import com.sms.entity.Teacher;
 import com.sms.repository.CourseRepository;
+import com.sms.repository.TeacherRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -27,6 +28,12 @@ class CourseServiceTest {
     @Mock
     private CourseRepository courseRepository;
 
+    @Mock
+    private TeacherRepository teacherRepository;
+
+    @Mock
+    private DashboardStatistics dashboardStatistics;
+
     @InjectMocks
     private CourseService courseService;
 
@@ -52,6 +59,7 @@ class CourseServiceTest {
         course.setCredits(3);
         course.setDepartment(department);
         course.setTeacher(teacher);
+        lenient().when(teacherRepository.getReferenceById(1L)).thenReturn(teacher);
     }
 
     @Test
@@ -95,7 +103,7 @@ class CourseServiceTest {
     @DisplayName("Should get course by ID successfully")
     void testGetCourseById_Success() {
         // Arrange
-        when(courseRepository.findById(1L)).thenReturn(Optional.of(course));
+        when(courseRepository.findWithDetailsById(1L)).thenReturn(Optional.of(course));
 
         // Act
         Course result = courseService.getCourseById(1L);
@@ -104,21 +112,21 @@ class CourseServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.getId()).isEqualTo(1L);
         assertThat(result.getCode()).isEqualTo("CS101");
-        verify(courseRepository).findById(1L);
+        verify(courseRepository).findWithDetailsById(1L);
     }
 
     @Test
     @DisplayName("Should return null when course not found by ID")
     void testGetCourseById_NotFound() {
         // Arrange
-        when(courseRepository.findById(99L)).thenReturn(Optional.empty());
+        when(courseRepository.findWithDetailsById(99L)).thenReturn(Optional.empty());
 
         // Act
         Course result = courseService.getCourseById(99L);
 
         // Assert
         assertThat(result).isNull();
-        verify(courseRepository).findById(99L);
+        verify(courseRepository).findWithDetailsById(99L);
     }
 
     @Test
@@ -162,7 +170,7 @@ class CourseServiceTest {
         updatedCourse.setName("Advanced Programming");
         updatedCourse.setCredits(4);
 
-        when(courseRepository.existsById(1L)).thenReturn(true);
+        when(courseRepository.findById(1L)).thenReturn(Optional.of(course));
         when(courseRepository.save(any(Course.class))).thenReturn(updatedCourse);
 
         // Act
@@ -171,22 +179,23 @@ class CourseServiceTest {
         // Assert
         assertThat(result).isNotNull();
         assertThat(result.getName()).isEqualTo("Advanced Programming");
-        verify(courseRepository).existsById(1L);
+        verify(courseRepository).findById(1L);
         verify(courseRepository).save(any(Course.class));
+        verify(dashboardStatistics).moved(DashboardStatistics.Counter.COURSES, 1L, null);
     }
 
     @Test
     @DisplayName("Should return null when updating non-existent course")
     void testUpdateCourse_NotFound() {
         // Arrange
-        when(courseRepository.existsById(99L)).thenReturn(false);
+        when(courseRepository.findById(99L)).thenReturn(Optional.empty());
 
         // Act
         Course result = courseService.updateCourse(99L, course);
 
         // Assert
         assertThat(result).isNull();
-        verify(courseRepository).existsById(99L);
+        verify(courseRepository).findById(99L);
         verify(courseRepository, never()).save(any(Course.class));
     }
 
@@ -200,6 +209,7 @@ class CourseServiceTest {
         courseService.deleteCourse(1L);
 
         // Assert
+        verify(courseRepository).deleteEnrollments(1L);
         verify(courseRepository).deleteById(1L);
     }
 }
@@ -0,0 +1,81 @@
+package com.sms.service;
+
+import com.sms.dto.StatisticsCount;
+import com.sms.repository.DepartmentRepository;
+import com.sms.service.DashboardStatistics.Counter;
+import com.sms.service.DashboardStatistics.CourseRow;
+import com.sms.service.DashboardStatistics.DepartmentRow;
+import com.sms.service.DashboardStatistics.Snapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DashboardStatistics Unit Tests")
+class DashboardStatisticsTest {
+
+    @Mock
+    private DepartmentRepository departmentRepository;
+
+    @InjectMocks
+    private DashboardStatistics dashboardStatistics;
+
+    @BeforeEach
+    void setUp() {
+        when(departmentRepository.countStatistics()).thenReturn(List.of(
+                new StatisticsCount("D", 1L, "Computer Science", 0),
+                new StatisticsCount("D", 2L, "Mathematics", 0),
+                new StatisticsCount("S", 1L, null, 5),
+                new StatisticsCount("S", null, null, 2),
+                new StatisticsCount("T", 2L, null, 3),
+                new StatisticsCount("C", 1L, null, 4),
+                new StatisticsCount("E", 10L, "CS101 - Compilers", 7),
+                new StatisticsCount("E", 11L, "MA101 - Algebra", 9)));
+        dashboardStatistics.reconcile();
+    }
+
+    @Test
+    @DisplayName("Should load totals, departments and top courses from the aggregate query")
+    void testReconcile_LoadsSnapshot() {
+        Snapshot snapshot = dashboardStatistics.snapshot();
+
+        assertThat(snapshot.students()).isEqualTo(7);
+        assertThat(snapshot.teachers()).isEqualTo(3);
+        assertThat(snapshot.courses()).isEqualTo(4);
+        assertThat(snapshot.departmentCount()).isEqualTo(2);
+        assertThat(snapshot.enrollments()).isEqualTo(16);
+        assertThat(snapshot.departments()).containsExactly(
+                new DepartmentRow(1L, "Computer Science", 5, 0, 4),
+                new DepartmentRow(2L, "Mathematics", 0, 3, 0),
+                new DepartmentRow(null, null, 2, 0, 0));
+        assertThat(snapshot.topCourses()).extracting(CourseRow::id).containsExactly(11L, 10L);
+    }
+
+    @Test
+    @DisplayName("Should apply writes to the counters and correct drift on reconciliation")
+    void testCounters_UpdatedAndReconciled() {
+        dashboardStatistics.moved(Counter.STUDENTS, 1L, 2L);
+        dashboardStatistics.added(Counter.TEACHERS, null);
+        dashboardStatistics.enrollmentsChanged(10L, 5);
+
+        Snapshot snapshot = dashboardStatistics.snapshot();
+        assertThat(snapshot.departments()).contains(
+                new DepartmentRow(1L, "Computer Science", 4, 0, 4),
+                new DepartmentRow(2L, "Mathematics", 1, 3, 0),
+                new DepartmentRow(null, null, 2, 1, 0));
+        assertThat(snapshot.topCourses()).extracting(CourseRow::id).containsExactly(10L, 11L);
+
+        dashboardStatistics.reconcile();
+        assertThat(dashboardStatistics.snapshot().departments()).contains(new DepartmentRow(1L, "Computer Science", 5, 0, 4));
+        assertThat(dashboardStatistics.snapshot().enrollments()).isEqualTo(16);
+    }
+}
@@ -1,7 +1,9 @@
 package com.sms.service;
 
 import com.sms.entity.Department;
+import com.sms.repository.CourseRepository;
 import com.sms.repository.DepartmentRepository;
+import com.sms.repository.StudentRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -25,6 +27,15 @@ class DepartmentServiceTest {
     @Mock
     private DepartmentRepository departmentRepository;
 
+    @Mock
+    private CourseRepository courseRepository;
+
+    @Mock
+    private StudentRepository studentRepository;
+
+    @Mock
+    private DashboardStatistics dashboardStatistics;
+
     @InjectMocks
     private DepartmentService departmentService;
 
@@ -0,0 +1,80 @@
+package com.sms.service;
+
+import com.sms.entity.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PasswordHashingService Unit Tests")
+class PasswordHashingServiceTest {
+
+    private final Set<String> hashingThreads = ConcurrentHashMap.newKeySet();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PasswordHashingService passwordHashingService =
+            new PasswordHashingService(new SlowEncoder(), meterRegistry, 4, 2);
+
+    @AfterEach
+    void tearDown() {
+        passwordHashingService.destroy();
+    }
+
+    @Test
+    @DisplayName("Should hash in parallel and keep the input order")
+    void testEncodeAll_ParallelAndOrdered() {
+        // Arrange
+        List<String> passwords = IntStream.range(0, 40).mapToObj(i -> "password" + i).toList();
+
+        // Act
+        List<String> hashes = passwordHashingService.encodeAll(passwords);
+
+        // Assert
+        assertThat(hashes).containsExactlyElementsOf(passwords.stream().map(p -> "hashed:" + p).toList());
+        assertThat(hashingThreads.size()).isGreaterThan(1);
+        assertThat(meterRegistry.get("sms.password.hash").timer().count()).isEqualTo(40);
+    }
+
+    @Test
+    @DisplayName("Should replace raw user passwords with hashes")
+    void testEncodePasswords() {
+        // Arrange
+        User first = new User();
+        first.setPassword("one");
+        User second = new User();
+        second.setPassword("two");
+
+        // Act
+        passwordHashingService.encodePasswords(List.of(first, second));
+
+        // Assert
+        assertThat(first.getPassword()).isEqualTo("hashed:one");
+        assertThat(second.getPassword()).isEqualTo("hashed:two");
+    }
+
+    private class SlowEncoder implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            hashingThreads.add(Thread.currentThread().getName());
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "hashed:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    }
+}
@@ -3,21 +3,27 @@ package com.sms.service;
 import com.sms.entity.Department;
 import com.sms.entity.Student;
 import com.sms.entity.User;
+import com.sms.repository.DepartmentRepository;
 import com.sms.repository.StudentRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
@@ -29,9 +35,24 @@ class StudentServiceTest {
     @Mock
     private StudentRepository studentRepository;
 
+    @Mock
+    private DepartmentRepository departmentRepository;
+
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private PasswordHashingService passwordHashingService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private UserDetailsCache userDetailsCache;
+
+    @Mock
+    private DashboardStatistics dashboardStatistics;
+
     @InjectMocks
     private StudentService studentService;
 
@@ -105,7 +126,7 @@ class StudentServiceTest {
     @DisplayName("Should get student by ID successfully")
     void testGetStudentById_Success() {
         // Arrange
-        when(studentRepository.findById(1L)).thenReturn(Optional.of(student));
+        when(studentRepository.findWithDetailsById(1L)).thenReturn(Optional.of(student));
 
         // Act
         Student result = studentService.getStudentById(1L);
@@ -114,21 +135,21 @@ class StudentServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.getId()).isEqualTo(1L);
         assertThat(result.getEmail()).isEqualTo("john.doe@example.com");
-        verify(studentRepository).findById(1L);
+        verify(studentRepository).findWithDetailsById(1L);
     }
 
     @Test
     @DisplayName("Should return null when student not found by ID")
     void testGetStudentById_NotFound() {
         // Arrange
-        when(studentRepository.findById(99L)).thenReturn(Optional.empty());
+        when(studentRepository.findWithDetailsById(99L)).thenReturn(Optional.empty());
 
         // Act
         Student result = studentService.getStudentById(99L);
 
         // Assert
         assertThat(result).isNull();
-        verify(studentRepository).findById(99L);
+        verify(studentRepository).findWithDetailsById(99L);
     }
 
     @Test
@@ -172,35 +193,74 @@ class StudentServiceTest {
         updatedStudent.setEmail("jane.smith@example.com");
         updatedStudent.setUser(user);
 
-        when(studentRepository.existsById(1L)).thenReturn(true);
         when(studentRepository.findById(1L)).thenReturn(Optional.of(student));
         when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
-        when(studentRepository.save(any(Student.class))).thenReturn(updatedStudent);
 
         // Act
         Student result = studentService.updateStudent(1L, updatedStudent);
 
+        // Assert: the loaded student is changed in place and written back by dirty checking
+        assertThat(result).isSameAs(student);
+        assertThat(result.getFirstName()).isEqualTo("Jane");
+        assertThat(result.getEmail()).isEqualTo("jane.smith@example.com");
+        verify(studentRepository).findById(1L);
+        verify(studentRepository, never()).existsById(any());
+        verify(studentRepository, never()).save(any(Student.class));
+    }
+
+    @Test
+    @DisplayName("Should evict cached credentials of the old and new username on update")
+    void testUpdateStudent_EvictsCachedUserDetails() {
+        // Arrange
+        User renamed = new User();
+        renamed.setId(1L);
+        renamed.setUsername("student1-renamed");
+        renamed.setPassword("newPassword");
+        Student updatedStudent = new Student();
+        updatedStudent.setUser(renamed);
+
+        when(studentRepository.findById(1L)).thenReturn(Optional.of(student));
+        when(passwordEncoder.encode("newPassword")).thenReturn("encodedPassword");
+
+        // Act
+        studentService.updateStudent(1L, updatedStudent);
+
         // Assert
-        assertThat(result).isNotNull();
-        verify(studentRepository).existsById(1L);
-        verify(studentRepository).save(any(Student.class));
+        verify(userDetailsCache).evict("student1");
+        verify(userDetailsCache).evict("student1-renamed");
     }
 
     @Test
     @DisplayName("Should return null when updating non-existent student")
     void testUpdateStudent_NotFound() {
         // Arrange
-        when(studentRepository.existsById(99L)).thenReturn(false);
+        when(studentRepository.findById(99L)).thenReturn(Optional.empty());
 
         // Act
         Student result = studentService.updateStudent(99L, student);
 
         // Assert
         assertThat(result).isNull();
-        verify(studentRepository).existsById(99L);
         verify(studentRepository, never()).save(any(Student.class));
     }
 
+    @Test
+    @DisplayName("Should reject an update based on an older version of the student")
+    void testUpdateStudent_StaleVersion() {
+        // Arrange
+        student.setVersion(3L);
+        Student staleEdit = new Student();
+        staleEdit.setVersion(2L);
+        staleEdit.setFirstName("Stale");
+
+        when(studentRepository.findById(1L)).thenReturn(Optional.of(student));
+
+        // Act & Assert
+        assertThatThrownBy(() -> studentService.updateStudent(1L, staleEdit))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        assertThat(student.getFirstName()).isEqualTo("John");
+    }
+
     @Test
     @DisplayName("Should delete student successfully")
     void testDeleteStudent_Success() {
@@ -215,22 +275,44 @@ class StudentServiceTest {
     }
 
     @Test
-    @DisplayName("Should preserve existing user when updating student without user")
+    @DisplayName("Should keep the user and every field the update leaves unset")
     void testUpdateStudent_PreserveUser() {
         // Arrange
         Student updateData = new Student();
         updateData.setFirstName("Updated");
         updateData.setUser(null);
 
-        when(studentRepository.existsById(1L)).thenReturn(true);
         when(studentRepository.findById(1L)).thenReturn(Optional.of(student));
-        when(studentRepository.save(any(Student.class))).thenReturn(student);
 
         // Act
         Student result = studentService.updateStudent(1L, updateData);
 
         // Assert
-        assertThat(result).isNotNull();
-        verify(studentRepository).save(argThat(s -> s.getUser() != null));
+        assertThat(result.getFirstName()).isEqualTo("Updated");
+        assertThat(result.getLastName()).isEqualTo("Doe");
+        assertThat(result.getDepartment()).isSameAs(department);
+        assertThat(result.getUser()).isSameAs(user);
+        verifyNoInteractions(userDetailsCache);
+    }
+
+    @Test
+    @DisplayName("Should hash passwords before opening the transaction in bulk create")
+    void testCreateStudents_HashesBeforeSaving() {
+        // Arrange
+        List<Student> students = List.of(student);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(studentRepository.saveAll(students)).thenReturn(students);
+
+        // Act
+        List<Student> created = studentService.createStudents(students);
+
+        // Assert
+        assertThat(created).containsExactly(student);
+        InOrder inOrder = inOrder(passwordHashingService, transactionTemplate, studentRepository);
+        inOrder.verify(passwordHashingService).encodePasswords(List.of(user));
+        inOrder.verify(transactionTemplate).execute(any());
+        inOrder.verify(studentRepository).saveAll(students);
+        verify(passwordEncoder, never()).encode(anyString());
     }
 }
@@ -0,0 +1,116 @@
+package com.sms.service;
+
+import com.sms.entity.User;
+import com.sms.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.CredentialsContainer;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserService Unit Tests")
+class UserServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    private UserService userService;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        UserDetailsCache cache = new UserDetailsCache(100, Duration.ofMinutes(5), new SimpleMeterRegistry());
+        userService = new UserService(userRepository, passwordEncoder, cache);
+
+        user = new User();
+        user.setId(1L);
+        user.setUsername("student1");
+        user.setPassword("encodedPassword");
+        user.setRole(User.Role.STUDENT);
+    }
+
+    @Test
+    @DisplayName("Should load user details once and hand out copies")
+    void testLoadUserByUsername_Cached() {
+        // Arrange
+        when(userRepository.findByUsername("student1")).thenReturn(Optional.of(user));
+
+        // Act
+        UserDetails first = userService.loadUserByUsername("student1");
+        ((CredentialsContainer) first).eraseCredentials();
+        UserDetails second = userService.loadUserByUsername("student1");
+
+        // Assert
+        assertThat(second.getPassword()).isEqualTo("encodedPassword");
+        assertThat(second.getAuthorities()).extracting("authority").containsExactly("ROLE_STUDENT");
+        verify(userRepository, times(1)).findByUsername("student1");
+    }
+
+    @Test
+    @DisplayName("Should stop authenticating a deleted user")
+    void testDeleteUser_EvictsCachedUserDetails() {
+        // Arrange
+        when(userRepository.findByUsername("student1")).thenReturn(Optional.of(user), Optional.empty());
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        userService.loadUserByUsername("student1");
+
+        // Act
+        userService.deleteUser(1L);
+
+        // Assert
+        verify(userRepository).deleteById(1L);
+        assertThatThrownBy(() -> userService.loadUserByUsername("student1"))
+                .isInstanceOf(UsernameNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Should stop authenticating a user once the account is disabled")
+    void testSetEnabled_EvictsCachedUserDetails() {
+        // Arrange
+        when(userRepository.findByUsername("student1")).thenReturn(Optional.of(user));
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        assertThat(userService.loadUserByUsername("student1").isEnabled()).isTrue();
+
+        // Act
+        userService.setEnabled(1L, false);
+
+        // Assert
+        assertThat(user.isEnabled()).isFalse();
+        assertThat(userService.loadUserByUsername("student1").isEnabled()).isFalse();
+        verify(userRepository, times(2)).findByUsername("student1");
+    }
+
+    @Test
+    @DisplayName("Should keep the cached user details when the enabled flag does not change")
+    void testSetEnabled_Unchanged() {
+        // Arrange
+        when(userRepository.findByUsername("student1")).thenReturn(Optional.of(user));
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        userService.loadUserByUsername("student1");
+
+        // Act
+        userService.setEnabled(1L, true);
+        userService.loadUserByUsername("student1");
+
+        // Assert
+        verify(userRepository, times(1)).findByUsername("student1");
+    }
+}
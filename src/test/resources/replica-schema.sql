@@ -0,0 +1,52 @@
+-- Tables the application reads, for the in-memory H2 replica used by ReadReplicaIntegrationTest.
+-- Runs on every new replica connection, hence IF NOT EXISTS.
+CREATE TABLE IF NOT EXISTS users (
+    id BIGINT PRIMARY KEY,
+    username VARCHAR(255) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    role VARCHAR(255) NOT NULL,
+    enabled BOOLEAN NOT NULL
+);
+CREATE TABLE IF NOT EXISTS departments (
+    id BIGINT PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    description VARCHAR(500)
+);
+CREATE TABLE IF NOT EXISTS teachers (
+    id BIGINT PRIMARY KEY,
+    employee_id VARCHAR(255) NOT NULL,
+    first_name VARCHAR(255) NOT NULL,
+    last_name VARCHAR(255) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    phone VARCHAR(255),
+    specialization VARCHAR(255),
+    version BIGINT DEFAULT 0 NOT NULL,
+    department_id BIGINT,
+    user_id BIGINT
+);
+CREATE TABLE IF NOT EXISTS students (
+    id BIGINT PRIMARY KEY,
+    student_id VARCHAR(255) NOT NULL,
+    first_name VARCHAR(255) NOT NULL,
+    last_name VARCHAR(255) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    phone VARCHAR(255),
+    address VARCHAR(255),
+    version BIGINT DEFAULT 0 NOT NULL,
+    department_id BIGINT,
+    user_id BIGINT
+);
+CREATE TABLE IF NOT EXISTS courses (
+    id BIGINT PRIMARY KEY,
+    code VARCHAR(255) NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    description VARCHAR(1000),
+    credits INTEGER,
+    department_id BIGINT,
+    teacher_id BIGINT
+);
+CREATE TABLE IF NOT EXISTS student_courses (
+    student_id BIGINT NOT NULL,
+    course_id BIGINT NOT NULL,
+    PRIMARY KEY (student_id, course_id)
+);